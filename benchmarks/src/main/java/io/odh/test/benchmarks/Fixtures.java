@@ -0,0 +1,234 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import io.odh.test.platform.KFPv1Client;
+import io.odh.test.platform.KFPv2Client;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic fixtures for benchmarks, generated locally so no cluster is needed
+ */
+public final class Fixtures {
+
+    private static final long SEED = 42;
+    private static final String TIMESTAMP = "2024-05-06T07:08:09Z";
+
+    private Fixtures() { }
+
+    public static KFPv2Client.ApiListRunsResponse kfpV2Runs(int count) {
+        KFPv2Client.ApiListRunsResponse response = new KFPv2Client.ApiListRunsResponse();
+        response.runs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            KFPv2Client.PipelineRun run = new KFPv2Client.PipelineRun();
+            run.runId = "run-" + i;
+            run.displayName = "benchmark-run-" + i;
+            run.pipelineVersionId = "version-" + i;
+            run.pipelineVersionReference = new KFPv2Client.PipelineVersionReference();
+            run.pipelineVersionReference.pipelineId = "pipeline-" + i;
+            run.pipelineVersionReference.pipelineVersionId = "version-" + i;
+            run.runtimeConfig = new KFPv2Client.RuntimeConfig();
+            run.runtimeConfig.parameters = Map.of("min_max_scaler", false, "neighbors", 3, "standard_scaler", true);
+            run.createdAt = TIMESTAMP;
+            run.scheduledAt = TIMESTAMP;
+            run.finishedAt = TIMESTAMP;
+            run.state = "SUCCEEDED";
+            run.runDetails = new KFPv2Client.RunDetails();
+            run.runDetails.pipelineContextId = String.valueOf(i);
+            run.runDetails.pipelineRunContextId = String.valueOf(i + 1);
+            List<Map<String, Object>> tasks = new ArrayList<>();
+            for (int t = 0; t < 5; t++) {
+                tasks.add(Map.of(
+                        "task_id", "task-" + i + "-" + t,
+                        "display_name", "step-" + t,
+                        "state", "SUCCEEDED",
+                        "create_time", TIMESTAMP,
+                        "end_time", TIMESTAMP,
+                        "child_tasks", List.of(Map.of("pod_name", "benchmark-run-" + i + "-step-" + t))));
+            }
+            run.runDetails.taskDetails = tasks;
+            response.runs.add(run);
+        }
+        response.totalSize = count;
+        response.nextPageToken = "";
+        return response;
+    }
+
+    public static KFPv2Client.ListPipelinesResponse kfpV2Pipelines(int count) {
+        KFPv2Client.ListPipelinesResponse response = new KFPv2Client.ListPipelinesResponse();
+        response.pipelines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            KFPv2Client.Pipeline pipeline = new KFPv2Client.Pipeline();
+            pipeline.pipelineId = "pipeline-" + i;
+            pipeline.displayName = "benchmark-pipeline-" + i;
+            response.pipelines.add(pipeline);
+        }
+        response.totalSize = count;
+        response.nextPageToken = "";
+        return response;
+    }
+
+    public static KFPv1Client.ApiListRunsResponse kfpV1Runs(int count) {
+        KFPv1Client.ApiListRunsResponse response = new KFPv1Client.ApiListRunsResponse();
+        response.runs = new ArrayList<>(count);
+        String manifest = workflowManifest();
+        for (int i = 0; i < count; i++) {
+            KFPv1Client.PipelineRun run = new KFPv1Client.PipelineRun();
+            run.id = "run-" + i;
+            run.name = "benchmark-run-" + i;
+            run.pipelineSpec = new KFPv1Client.PipelineSpec();
+            run.pipelineSpec.pipelineId = "pipeline-" + i;
+            run.pipelineSpec.pipelineName = "benchmark-pipeline-" + i;
+            run.pipelineSpec.workflowManifest = manifest;
+            run.createdAt = TIMESTAMP;
+            run.scheduledAt = TIMESTAMP;
+            run.finishedAt = TIMESTAMP;
+            run.status = "Succeeded";
+            response.runs.add(run);
+        }
+        response.totalSize = count;
+        response.nextPageToken = "";
+        return response;
+    }
+
+    public static KFPv1Client.PipelineResponse kfpV1Pipelines(int count) {
+        KFPv1Client.PipelineResponse response = new KFPv1Client.PipelineResponse();
+        response.pipelines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            KFPv1Client.Pipeline pipeline = new KFPv1Client.Pipeline();
+            pipeline.id = "pipeline-" + i;
+            pipeline.name = "benchmark-pipeline-" + i;
+            response.pipelines.add(pipeline);
+        }
+        response.totalSize = count;
+        return response;
+    }
+
+    /**
+     * Argo workflow manifest embedded as a string into every v1 pipeline run
+     */
+    private static String workflowManifest() {
+        StringBuilder manifest = new StringBuilder("{\"kind\":\"Workflow\",\"spec\":{\"templates\":[");
+        for (int t = 0; t < 20; t++) {
+            if (t > 0) {
+                manifest.append(',');
+            }
+            manifest.append("{\"name\":\"step-").append(t)
+                    .append("\",\"container\":{\"image\":\"registry.access.redhat.com/ubi9/python-311\",")
+                    .append("\"command\":[\"sh\",\"-c\",\"python3 -m pip install kfp && python3 step.py\"]}}");
+        }
+        return manifest.append("]}}").toString();
+    }
+
+    /**
+     * Operator like log with given number of lines. Lines are mostly INFO, every hundredth line is
+     * an error which is present in the ignore list of the log matcher, so the whole log has to be scanned.
+     */
+    public static String operatorLog(int lines) {
+        StringBuilder log = new StringBuilder(lines * 160);
+        for (int i = 0; i < lines; i++) {
+            log.append(TIMESTAMP);
+            if (i % 100 == 99) {
+                log.append("\tERROR\tcontroller.datasciencecluster\tReconciler error\t{\"error\": ")
+                        .append("\"servicemeshcontrolplanes.maistra.io\" not found\"}\n");
+            } else {
+                log.append("\tINFO\tcontroller.datasciencecluster\tReconciling component\t{\"component\": \"component-")
+                        .append(i % 10).append("\", \"generation\": ").append(i).append("}\n");
+            }
+        }
+        return log.toString();
+    }
+
+    /**
+     * Ignore list entries, every eighth entry is a regular expression, the rest are literals
+     */
+    public static List<String> ignoreListEntries(int count) {
+        List<String> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(i % 8 == 7
+                    ? "component-" + i + " timed out after [0-9]+s"
+                    : "component-" + i + "\" failed to reconcile dependency");
+        }
+        return entries;
+    }
+
+    /**
+     * Operator like log where every fourth line is an error covered by one of the ignore list entries,
+     * errors cycle through all entries so the last entries are hit as often as the first ones
+     */
+    public static String operatorLogWithIgnoredErrors(int lines, List<String> ignoreListEntries) {
+        StringBuilder log = new StringBuilder(lines * 160);
+        for (int i = 0; i < lines; i++) {
+            log.append(TIMESTAMP);
+            if (i % 4 == 3) {
+                int entry = (i / 4) % ignoreListEntries.size();
+                log.append("\tERROR\tcontroller.datasciencecluster\tReconciler error\t")
+                        .append(entry % 8 == 7
+                                ? "component-" + entry + " timed out after 30s"
+                                : "component-" + entry + "\" failed to reconcile dependency")
+                        .append('\n');
+            } else {
+                log.append("\tINFO\tcontroller.datasciencecluster\tReconciling component\t{\"component\": \"component-")
+                        .append(i % 10).append("\", \"generation\": ").append(i).append("}\n");
+            }
+        }
+        return log.toString();
+    }
+
+    /**
+     * Base64 encoded bundle of self-signed PEM certificates as it is stored in the tls.crt key of a secret
+     */
+    public static String certificateBundle(int certificates) throws GeneralSecurityException, OperatorCreationException, IOException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        Base64.Encoder pemEncoder = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII));
+        StringBuilder pem = new StringBuilder();
+        Instant now = Instant.parse(TIMESTAMP);
+        for (int i = 0; i < certificates; i++) {
+            KeyPair keyPair = generator.generateKeyPair();
+            X500Name subject = new X500Name("CN=benchmark-" + i);
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(subject, BigInteger.valueOf(i + 1),
+                    Date.from(now), Date.from(now.plus(365, ChronoUnit.DAYS)), subject, keyPair.getPublic());
+            X509CertificateHolder holder = builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate()));
+            pem.append("-----BEGIN CERTIFICATE-----\n")
+                    .append(pemEncoder.encodeToString(holder.getEncoded()))
+                    .append("\n-----END CERTIFICATE-----\n");
+        }
+        return Base64.getEncoder().encodeToString(pem.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Temporary file with pseudo random content
+     */
+    public static Path randomFile(int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(SEED).nextBytes(content);
+        Path file = Files.createTempFile("odh-benchmark", ".yaml");
+        file.toFile().deleteOnExit();
+        return Files.write(file, content);
+    }
+}
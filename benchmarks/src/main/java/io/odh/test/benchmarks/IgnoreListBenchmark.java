@@ -0,0 +1,92 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import io.odh.test.framework.matchers.LogIgnoreList;
+import io.odh.test.framework.matchers.LogScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Scaling of the log check with the size of the ignore list. {@link #automaton()} uses {@link LogScanner},
+ * {@link #perEntryRegex()} is the previous implementation which compiled and ran every ignore list entry
+ * for every error line. The automaton should stay flat while the number of entries grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IgnoreListBenchmark {
+
+    private static final Pattern ENTRY_START = Pattern.compile("[0-9]{4}-[0-9]{2}-[0-9]{2}T[0-9]{2}:[0-9]{2}:[0-9]{2}Z");
+
+    @Param({"2", "32", "256"})
+    int ignoreEntries;
+
+    @Param({"20000"})
+    int lines;
+
+    private String log;
+    private List<String> entries;
+    private LogScanner scanner;
+
+    @Setup
+    public void setup() {
+        entries = Fixtures.ignoreListEntries(ignoreEntries);
+        log = Fixtures.operatorLogWithIgnoredErrors(lines, entries);
+        scanner = new LogScanner(LogIgnoreList.of(entries));
+        if (!automaton() || !perEntryRegex()) {
+            throw new IllegalStateException("Generated log is expected to have no unexpected errors");
+        }
+    }
+
+    @Benchmark
+    public boolean automaton() {
+        return scanner.findUnexpectedErrors(new StringReader(log), 1).isEmpty();
+    }
+
+    @Benchmark
+    public boolean perEntryRegex() {
+        for (String line : log.split(ENTRY_START.pattern())) {
+            if (line.contains("DEBUG") || line.contains("WARN") || line.contains("INFO")) {
+                continue;
+            }
+            if (line.contains("NullPointer")) {
+                return false;
+            }
+            String lineLowerCase = line.toLowerCase(Locale.ENGLISH);
+            if (lineLowerCase.contains("error") || lineLowerCase.contains("exception")) {
+                boolean ignored = false;
+                for (String entry : entries) {
+                    if (Pattern.compile(entry).matcher(line).find()) {
+                        ignored = true;
+                        break;
+                    }
+                }
+                if (!ignored) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.odh.test.platform.InferenceClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips of {@link InferenceClient} to a local v2 model server stub, with tensors as JSON arrays
+ * and with the binary data extension. The stub decodes every input and answers with 1000 class scores, as an image
+ * classifier would, so both sides of the encoding are measured while the model itself costs nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// without TCP_NODELAY the stub's responses wait for delayed ACKs, which hides the cost of the encoding
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class InferenceBenchmark {
+
+    private static final int CLASSES = 1000;
+
+    /**
+     * Input shape, MNIST digit and ImageNet image
+     */
+    @Param({"1x1x28x28", "1x3x224x224"})
+    String shape;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private HttpServer server;
+    private InferenceClient jsonClient;
+    private InferenceClient binaryClient;
+    private List<InferenceClient.Tensor> inputs;
+
+    @Setup
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/v2/models/classifier/infer", this::infer);
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v2/models/classifier";
+        HttpClient httpClient = HttpClient.newHttpClient();
+        jsonClient = new InferenceClient(httpClient, url, null, false);
+        binaryClient = new InferenceClient(httpClient, url, null, true);
+
+        long[] dimensions = Arrays.stream(shape.split("x")).mapToLong(Long::parseLong).toArray();
+        float[] pixels = new float[(int) Arrays.stream(dimensions).reduce(1, Math::multiplyExact)];
+        Random random = new Random(42);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextFloat();
+        }
+        inputs = List.of(InferenceClient.Tensor.fp32("input", dimensions, pixels));
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    @Benchmark
+    public InferenceClient.InferenceResponse json() {
+        return jsonClient.infer(inputs);
+    }
+
+    @Benchmark
+    public InferenceClient.InferenceResponse binary() {
+        return binaryClient.infer(inputs);
+    }
+
+    private void infer(HttpExchange exchange) throws IOException {
+        byte[] request = exchange.getRequestBody().readAllBytes();
+        String headerLength = exchange.getRequestHeaders().getFirst(InferenceClient.HEADER_CONTENT_LENGTH);
+        JsonNode header = mapper.readTree(request, 0, headerLength == null ? request.length : Integer.parseInt(headerLength));
+        // decode the input as a server would
+        float checksum = 0;
+        if (headerLength != null) {
+            ByteBuffer data = ByteBuffer.wrap(request).order(ByteOrder.LITTLE_ENDIAN);
+            for (int position = Integer.parseInt(headerLength); position < request.length; position += Float.BYTES) {
+                checksum += data.getFloat(position);
+            }
+        } else {
+            for (JsonNode value : header.at("/inputs/0/data")) {
+                checksum += value.floatValue();
+            }
+        }
+
+        ObjectNode response = mapper.createObjectNode().put("model_name", "classifier");
+        ObjectNode output = response.putArray("outputs").addObject().put("name", "scores").put("datatype", "FP32");
+        output.putArray("shape").add(1).add(CLASSES);
+        byte[] binary = null;
+        if (header.at("/parameters/binary_data_output").asBoolean()) {
+            ByteBuffer scores = ByteBuffer.allocate(CLASSES * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < CLASSES; i++) {
+                scores.putFloat(checksum / (i + 1));
+            }
+            binary = scores.array();
+            output.putObject("parameters").put("binary_data_size", binary.length);
+        } else {
+            ArrayNode scores = output.putArray("data");
+            for (int i = 0; i < CLASSES; i++) {
+                scores.add(checksum / (i + 1));
+            }
+        }
+        byte[] json = mapper.writeValueAsBytes(response);
+        if (binary != null) {
+            exchange.getResponseHeaders().add(InferenceClient.HEADER_CONTENT_LENGTH, String.valueOf(json.length));
+        }
+        exchange.sendResponseHeaders(200, json.length + (binary == null ? 0 : binary.length));
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(json);
+            if (binary != null) {
+                body.write(binary);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.odh.test.platform.KFPv1Client;
+import io.odh.test.platform.KFPv2Client;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (De)serialization of KFP list responses with the object mappers used by {@link KFPv1Client} and {@link KFPv2Client}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KfpJsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int items;
+
+    private ObjectMapper v1Mapper;
+    private ObjectMapper v2Mapper;
+
+    private KFPv2Client.ApiListRunsResponse v2Runs;
+    private String v2RunsJson;
+    private String v2PipelinesJson;
+    private String v1RunsJson;
+    private String v1PipelinesJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        v1Mapper = new KFPv1Client("http://localhost").getObjectMapper();
+        v2Mapper = new KFPv2Client(HttpClient.newHttpClient(), "http://localhost", null).getObjectMapper();
+
+        v2Runs = Fixtures.kfpV2Runs(items);
+        v2RunsJson = v2Mapper.writeValueAsString(v2Runs);
+        v2PipelinesJson = v2Mapper.writeValueAsString(Fixtures.kfpV2Pipelines(items));
+        v1RunsJson = v1Mapper.writeValueAsString(Fixtures.kfpV1Runs(items));
+        v1PipelinesJson = v1Mapper.writeValueAsString(Fixtures.kfpV1Pipelines(items));
+    }
+
+    @Benchmark
+    public KFPv2Client.ApiListRunsResponse v2ReadRuns() throws JsonProcessingException {
+        return v2Mapper.readValue(v2RunsJson, KFPv2Client.ApiListRunsResponse.class);
+    }
+
+    @Benchmark
+    public String v2WriteRuns() throws JsonProcessingException {
+        return v2Mapper.writeValueAsString(v2Runs);
+    }
+
+    @Benchmark
+    public KFPv2Client.ListPipelinesResponse v2ReadPipelines() throws JsonProcessingException {
+        return v2Mapper.readValue(v2PipelinesJson, KFPv2Client.ListPipelinesResponse.class);
+    }
+
+    @Benchmark
+    public KFPv1Client.ApiListRunsResponse v1ReadRuns() throws JsonProcessingException {
+        return v1Mapper.readValue(v1RunsJson, KFPv1Client.ApiListRunsResponse.class);
+    }
+
+    @Benchmark
+    public KFPv1Client.PipelineResponse v1ReadPipelines() throws JsonProcessingException {
+        return v1Mapper.readValue(v1PipelinesJson, KFPv1Client.PipelineResponse.class);
+    }
+}
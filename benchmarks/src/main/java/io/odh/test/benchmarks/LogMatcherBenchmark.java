@@ -0,0 +1,52 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import io.odh.test.framework.matchers.LogHasNoUnexpectedErrors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan of an operator log by {@link LogHasNoUnexpectedErrors}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogMatcherBenchmark {
+
+    @Param({"1000", "100000"})
+    int lines;
+
+    private String log;
+    private LogHasNoUnexpectedErrors matcher;
+
+    @Setup
+    public void setup() {
+        log = Fixtures.operatorLog(lines);
+        matcher = new LogHasNoUnexpectedErrors();
+        if (!matcher.matches(log)) {
+            throw new IllegalStateException("Generated log is expected to have no unexpected errors");
+        }
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return matcher.matches(log);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import io.odh.test.platform.httpClient.MultipartFormDataBodyPublisher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link MultipartFormDataBodyPublisher} streaming a pipeline file the same way as pipeline upload does
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultipartBenchmark {
+
+    @Param({"65536", "4194304"})
+    int fileSize;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Fixtures.randomFile(fileSize);
+    }
+
+    @Benchmark
+    public long publishFile() throws ExecutionException, InterruptedException {
+        MultipartFormDataBodyPublisher publisher = new MultipartFormDataBodyPublisher()
+                .add("description", "benchmark pipeline")
+                .addFile("uploadfile", file, "application/yaml");
+        DrainingSubscriber subscriber = new DrainingSubscriber();
+        publisher.subscribe(subscriber);
+        return subscriber.bytes.get();
+    }
+
+    /**
+     * Requests all buffers and counts published bytes
+     */
+    private static final class DrainingSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final CompletableFuture<Long> bytes = new CompletableFuture<>();
+        private long count;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            count += item.remaining();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            bytes.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            bytes.complete(count);
+        }
+    }
+}
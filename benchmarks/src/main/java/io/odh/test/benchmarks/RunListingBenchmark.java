@@ -0,0 +1,114 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.odh.test.platform.KFPv1Client;
+import io.odh.test.platform.httpClient.JsonBodyHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading of a KFP v1 run listing as it arrives from the network in 16 KiB buffers.
+ * {@link #stringThenBind()} decodes the whole body into a String and binds it, as {@code BodyHandlers.ofString()}
+ * followed by {@code readValue} does, {@link #streamingProjection()} feeds the buffers into {@link JsonBodyHandler}
+ * which drops workflow manifests while parsing. Run with {@code -prof gc} to compare allocation per listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RunListingBenchmark {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    @Param({"100", "1000"})
+    int runs;
+
+    private ObjectMapper mapper;
+    private List<ByteBuffer> body;
+    private JsonBodyHandler<KFPv1Client.ApiListRunsResponse> handler;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        mapper = new KFPv1Client("http://localhost").getObjectMapper();
+        byte[] json = mapper.writeValueAsBytes(Fixtures.kfpV1Runs(runs));
+        body = new ArrayList<>();
+        for (int offset = 0; offset < json.length; offset += BUFFER_SIZE) {
+            body.add(ByteBuffer.wrap(json, offset, Math.min(BUFFER_SIZE, json.length - offset)).asReadOnlyBuffer());
+        }
+        handler = new JsonBodyHandler<>(mapper, KFPv1Client.ApiListRunsResponse.class, KFPv1Client.RUN_LIST_SKIPPED_FIELDS);
+    }
+
+    @Benchmark
+    public KFPv1Client.ApiListRunsResponse stringThenBind() throws JsonProcessingException {
+        return mapper.readValue(deliver(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8)),
+                KFPv1Client.ApiListRunsResponse.class);
+    }
+
+    @Benchmark
+    public KFPv1Client.ApiListRunsResponse streamingProjection() {
+        return deliver(handler.apply(OK));
+    }
+
+    private <T> T deliver(HttpResponse.BodySubscriber<T> subscriber) {
+        subscriber.onSubscribe(NO_BACKPRESSURE);
+        for (ByteBuffer buffer : body) {
+            subscriber.onNext(List.of(buffer.duplicate()));
+        }
+        subscriber.onComplete();
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+
+    private static final Flow.Subscription NO_BACKPRESSURE = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private static final HttpResponse.ResponseInfo OK = new HttpResponse.ResponseInfo() {
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return HttpHeaders.of(Map.of(), (name, value) -> true);
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    };
+}
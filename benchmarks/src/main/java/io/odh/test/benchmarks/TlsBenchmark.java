@@ -0,0 +1,55 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.benchmarks;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.odh.test.platform.TlsUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.net.ssl.SSLContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of {@link SSLContext} from a secret with CA bundle by {@link TlsUtils#getSSLContextFromSecret(Secret)}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TlsBenchmark {
+
+    @Param({"1", "10"})
+    int certificates;
+
+    private Secret secret;
+
+    @Setup
+    public void setup() throws Exception {
+        secret = new SecretBuilder()
+                .withNewMetadata()
+                .withName("router-certs-default")
+                .endMetadata()
+                .addToData("tls.crt", Fixtures.certificateBundle(certificates))
+                .build();
+    }
+
+    @Benchmark
+    public SSLContext sslContextFromSecret() throws Exception {
+        return TlsUtils.getSSLContextFromSecret(secret);
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test;
+
+/**
+ * Keys of JUnit resource locks for cluster scoped singletons shared by test classes running in parallel
+ */
+public class ClusterResourceLocks {
+    public static final String DSC = "DataScienceCluster";
+    public static final String DSCI = "DSCInitialization";
+    public static final String CLUSTER_QUEUE = "ClusterQueue";
+    public static final String RESOURCE_FLAVOR = "ResourceFlavor";
+
+    private ClusterResourceLocks() {
+    }
+}
@@ -4,6 +4,8 @@
  */
 package io.odh.test;
 
+import io.odh.test.framework.informers.CacheMode;
+import io.odh.test.framework.load.LoadSchedule;
 import io.odh.test.install.InstallTypes;
 import io.skodjob.testframe.utils.LoggerUtils;
 import org.slf4j.Logger;
@@ -68,6 +70,42 @@ public class Environment {
     private static final String OPERATOR_INSTALL_TYPE_ENV = "OPERATOR_INSTALL_TYPE";
     private static final String OLM_UPGRADE_STARTING_VERSION_ENV = "OLM_UPGRADE_STARTING_VERSION";
 
+    /**
+     * Resource lookups
+     */
+    private static final String RESOURCE_CACHE_MODE_ENV = "RESOURCE_CACHE_MODE";
+
+    /**
+     * Log checks
+     */
+    private static final String LOG_IGNORE_LIST_FILE_ENV = "LOG_IGNORE_LIST_FILE";
+
+    /**
+     * Failure capture
+     */
+    private static final String FAILURE_CAPTURE_PARALLELISM_ENV = "FAILURE_CAPTURE_PARALLELISM";
+    private static final String FAILURE_CAPTURE_MAX_MB_ENV = "FAILURE_CAPTURE_MAX_MB";
+    private static final String FAILURE_CAPTURE_TIMEOUT_SECONDS_ENV = "FAILURE_CAPTURE_TIMEOUT_SECONDS";
+
+    /**
+     * Pipeline server load
+     */
+    private static final String KFP_LOAD_DURATION_SECONDS_ENV = "KFP_LOAD_DURATION_SECONDS";
+    private static final String KFP_LOAD_RATE_ENV = "KFP_LOAD_RATE";
+    private static final String KFP_LOAD_MIX_ENV = "KFP_LOAD_MIX";
+    private static final String KFP_LOAD_CONCURRENCY_ENV = "KFP_LOAD_CONCURRENCY";
+    private static final String KFP_LOAD_DRAIN_TIMEOUT_SECONDS_ENV = "KFP_LOAD_DRAIN_TIMEOUT_SECONDS";
+
+    /**
+     * Inference load
+     */
+    private static final String INFERENCE_LOAD_DURATION_SECONDS_ENV = "INFERENCE_LOAD_DURATION_SECONDS";
+    private static final String INFERENCE_LOAD_RATE_ENV = "INFERENCE_LOAD_RATE";
+    private static final String INFERENCE_LOAD_SCHEDULE_ENV = "INFERENCE_LOAD_SCHEDULE";
+    private static final String INFERENCE_LOAD_STREAMS_ENV = "INFERENCE_LOAD_STREAMS";
+    private static final String INFERENCE_LOAD_BATCH_SIZE_ENV = "INFERENCE_LOAD_BATCH_SIZE";
+    private static final String INFERENCE_LOAD_BATCH_DELAY_MICROS_ENV = "INFERENCE_LOAD_BATCH_DELAY_MICROS";
+
     public static final String PRODUCT_ODH = "odh";
     public static final String PRODUCT_RHOAI = "rhoai";
 
@@ -97,6 +135,32 @@ public class Environment {
 
     public static final String OPERATOR_INSTALL_TYPE = getOrDefault(OPERATOR_INSTALL_TYPE_ENV, InstallTypes.BUNDLE.toString());
 
+    // Resource lookups
+    public static final String RESOURCE_CACHE_MODE = getOrDefault(RESOURCE_CACHE_MODE_ENV, CacheMode.READ_THROUGH.toString());
+
+    // Log checks
+    public static final String LOG_IGNORE_LIST_FILE = getOrDefault(LOG_IGNORE_LIST_FILE_ENV, null);
+
+    // Failure capture
+    public static final int FAILURE_CAPTURE_PARALLELISM = getOrDefault(FAILURE_CAPTURE_PARALLELISM_ENV, Integer::valueOf, 6);
+    public static final int FAILURE_CAPTURE_MAX_MB = getOrDefault(FAILURE_CAPTURE_MAX_MB_ENV, Integer::valueOf, 100);
+    public static final int FAILURE_CAPTURE_TIMEOUT_SECONDS = getOrDefault(FAILURE_CAPTURE_TIMEOUT_SECONDS_ENV, Integer::valueOf, 120);
+
+    // Pipeline server load
+    public static final int KFP_LOAD_DURATION_SECONDS = getOrDefault(KFP_LOAD_DURATION_SECONDS_ENV, Integer::valueOf, 0);
+    public static final double KFP_LOAD_RATE = getOrDefault(KFP_LOAD_RATE_ENV, Double::valueOf, 2.0);
+    public static final String KFP_LOAD_MIX = getOrDefault(KFP_LOAD_MIX_ENV, "import=1,run=2,list=6,delete=1");
+    public static final int KFP_LOAD_CONCURRENCY = getOrDefault(KFP_LOAD_CONCURRENCY_ENV, Integer::valueOf, 16);
+    public static final int KFP_LOAD_DRAIN_TIMEOUT_SECONDS = getOrDefault(KFP_LOAD_DRAIN_TIMEOUT_SECONDS_ENV, Integer::valueOf, 300);
+
+    // Inference load
+    public static final int INFERENCE_LOAD_DURATION_SECONDS = getOrDefault(INFERENCE_LOAD_DURATION_SECONDS_ENV, Integer::valueOf, 0);
+    public static final double INFERENCE_LOAD_RATE = getOrDefault(INFERENCE_LOAD_RATE_ENV, Double::valueOf, 10.0);
+    public static final String INFERENCE_LOAD_SCHEDULE = getOrDefault(INFERENCE_LOAD_SCHEDULE_ENV, LoadSchedule.CONSTANT);
+    public static final int INFERENCE_LOAD_STREAMS = getOrDefault(INFERENCE_LOAD_STREAMS_ENV, Integer::valueOf, 0);
+    public static final int INFERENCE_LOAD_BATCH_SIZE = getOrDefault(INFERENCE_LOAD_BATCH_SIZE_ENV, Integer::valueOf, 1);
+    public static final long INFERENCE_LOAD_BATCH_DELAY_MICROS = getOrDefault(INFERENCE_LOAD_BATCH_DELAY_MICROS_ENV, Long::valueOf, 1000L);
+
     public static final Path LOG_DIR = getOrDefault(LOG_DIR_ENV, Paths::get, Paths.get(USER_PATH, "target", "logs")).resolve("test-run-" + DATE_FORMAT.format(LocalDateTime.now()));
 
     private Environment() {
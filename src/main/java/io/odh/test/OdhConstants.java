@@ -57,6 +57,8 @@ public class OdhConstants {
 
     // Public part
     public static final String DSC_CREATION_SUCCESSFUL_EVENT_NAME = "DataScienceClusterCreationSuccessful";
+    // Event recorders put events regarding cluster scoped resources (like DSC) into the default namespace
+    public static final String CLUSTER_SCOPED_EVENTS_NAMESPACE = "default";
 
     public static final String CODEFLARE_DEPLOYMENT_NAME = "codeflare-operator-manager";
     public static final String DS_PIPELINES_OPERATOR = "data-science-pipelines-operator-controller-manager";
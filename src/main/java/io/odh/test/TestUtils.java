@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.api.model.Endpoints;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.operatorhub.v1alpha1.InstallPlan;
+import io.odh.test.framework.wait.BackoffWait;
 import io.opendatahub.datasciencecluster.v1.datascienceclusterstatus.Conditions;
 import io.skodjob.testframe.resources.KubeResourceManager;
 import io.skodjob.testframe.utils.KubeUtils;
@@ -199,7 +200,7 @@ public final class TestUtils {
     }
 
     public static void waitForInstallPlan(String namespace, String csvName) {
-        Wait.until(String.format("Install plan with new version: %s:%s", namespace, csvName),
+        BackoffWait.until(String.format("Install plan with new version: %s:%s", namespace, csvName),
                 GLOBAL_POLL_INTERVAL_SHORT, GLOBAL_TIMEOUT, () -> {
                     try {
                         InstallPlan ip = KubeUtils.getNonApprovedInstallPlan(namespace, csvName);
@@ -213,7 +214,7 @@ public final class TestUtils {
     }
 
     public static void waitForEndpoints(String name, Resource<Endpoints> endpoints) {
-        Wait.until("%s service endpoints to come up".formatted(name), GLOBAL_POLL_INTERVAL_SHORT, GLOBAL_TIMEOUT, () -> {
+        BackoffWait.until("%s service endpoints to come up".formatted(name), GLOBAL_POLL_INTERVAL_SHORT, GLOBAL_TIMEOUT, () -> {
             try {
                 Endpoints endpointset = endpoints.get();
                 if (endpointset == null) {
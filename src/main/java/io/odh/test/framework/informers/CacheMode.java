@@ -0,0 +1,20 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.informers;
+
+/**
+ * Consistency of lookups served by {@link ResourceCache}
+ */
+public enum CacheMode {
+    /**
+     * Lookups are answered only from the informer cache, a resource missing in the cache is reported as missing
+     */
+    CACHE_ONLY,
+    /**
+     * Lookups are answered from the informer cache, a miss is verified by a GET against the API server.
+     * A hit is not verified, so it may be older than a write which has just been made.
+     */
+    READ_THROUGH
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.informers;
+
+import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
+import io.opendatahub.datasciencecluster.v1.datascienceclusterstatus.Conditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Incremental evaluator of expected DataScienceCluster conditions.
+ * Conditions are indexed by type once per observed resource version and an expectation is re-evaluated
+ * only when the status of its condition changed since the previous version.
+ * The time at which every expectation got fulfilled for the first time is kept as a timeline.
+ */
+public class DscConditionEvaluator implements Predicate<DataScienceCluster> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DscConditionEvaluator.class);
+
+    private final Map<String, String> expectations;
+    private final Map<String, String> observedStatuses = new HashMap<>();
+    private final Map<String, Boolean> fulfilled = new HashMap<>();
+    private final Map<String, Duration> timeline = new LinkedHashMap<>();
+    private final long startTime = System.nanoTime();
+
+    private String lastResourceVersion;
+    private boolean lastResult;
+
+    /**
+     * @param expectations expected status for every condition type, keyed by condition type
+     */
+    public DscConditionEvaluator(Map<String, String> expectations) {
+        this.expectations = new LinkedHashMap<>(expectations);
+        this.expectations.keySet().forEach(type -> fulfilled.put(type, false));
+    }
+
+    @Override
+    public synchronized boolean test(DataScienceCluster dsc) {
+        String resourceVersion = dsc.getMetadata().getResourceVersion();
+        if (resourceVersion != null && resourceVersion.equals(lastResourceVersion)) {
+            return lastResult;
+        }
+        lastResourceVersion = resourceVersion;
+
+        Map<String, String> statuses = indexByType(dsc.getStatus() == null ? null : dsc.getStatus().getConditions());
+        boolean allFulfilled = true;
+        for (Map.Entry<String, String> expectation : expectations.entrySet()) {
+            String type = expectation.getKey();
+            String status = statuses.get(type);
+            if (!observedStatuses.containsKey(type) || !Objects.equals(observedStatuses.get(type), status)) {
+                observedStatuses.put(type, status);
+                boolean isFulfilled = Objects.equals(status, expectation.getValue());
+                fulfilled.put(type, isFulfilled);
+                LOGGER.debug("DataScienceCluster {} {} status: {}", dsc.getMetadata().getName(), type, status);
+                if (isFulfilled && !timeline.containsKey(type)) {
+                    timeline.put(type, Duration.ofNanos(System.nanoTime() - startTime));
+                }
+            }
+            allFulfilled = allFulfilled && fulfilled.get(type);
+        }
+        lastResult = allFulfilled;
+        return allFulfilled;
+    }
+
+    /**
+     * Returns time from creation of the evaluator until each expectation was fulfilled for the first time,
+     * in the order in which the expectations got fulfilled
+     *
+     * @return timeline of fulfilled expectations keyed by condition type
+     */
+    public synchronized Map<String, Duration> getTimeline() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(timeline));
+    }
+
+    private static Map<String, String> indexByType(List<Conditions> conditions) {
+        Map<String, String> statuses = new HashMap<>();
+        if (conditions != null) {
+            conditions.forEach(condition -> statuses.put(condition.getType(), condition.getStatus()));
+        }
+        return statuses;
+    }
+}
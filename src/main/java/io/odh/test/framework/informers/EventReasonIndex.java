@@ -0,0 +1,71 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.informers;
+
+import io.fabric8.kubernetes.api.model.events.v1.Event;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set of UIDs of objects for which an event with given reason was recorded in given namespace.
+ * Backed by a single long-lived watch selecting the events by reason, the watch is resumed from the last seen
+ * resourceVersion after a disconnect, so the events are not listed again on every check.
+ * UIDs stay in the index after the event itself expires.
+ */
+public final class EventReasonIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventReasonIndex.class);
+
+    private final String reason;
+    private final Set<String> uids = ConcurrentHashMap.newKeySet();
+    private final SharedIndexInformer<Event> informer;
+
+    public EventReasonIndex(KubernetesClient client, String namespace, String reason) {
+        this.reason = reason;
+        this.informer = client.events().v1().events().inNamespace(namespace).withField("reason", reason)
+            .inform(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(Event event) {
+                    record(event);
+                }
+
+                @Override
+                public void onUpdate(Event oldEvent, Event newEvent) {
+                    record(newEvent);
+                }
+
+                @Override
+                public void onDelete(Event event, boolean deletedFinalStateUnknown) {
+                }
+            });
+    }
+
+    /**
+     * Returns whether event with the reason of this index was recorded for the object
+     *
+     * @param uid uid of the object
+     * @return true if the event was observed
+     */
+    public boolean hasEvent(String uid) {
+        return uids.contains(uid);
+    }
+
+    public void stop() {
+        informer.stop();
+    }
+
+    private void record(Event event) {
+        if (reason.equals(event.getReason()) && event.getRegarding() != null && event.getRegarding().getUid() != null) {
+            LOGGER.debug("Event {} observed for {} {}", reason, event.getRegarding().getKind(), event.getRegarding().getName());
+            uids.add(event.getRegarding().getUid());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.informers;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.odh.test.TestConstants;
+import io.skodjob.testframe.wait.WaitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Waits for resource conditions using watch events from {@link SharedInformers} instead of polling the API server.
+ * A condition is evaluated as soon as the informer receives a new version of the resource, so any number of
+ * concurrent waits for one resource type share a single watch connection.
+ * The cached resource is additionally re-checked every recheck interval, which covers conditions depending
+ * on state outside the watched resource.
+ */
+public final class ReadinessEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadinessEngine.class);
+
+    private static ReadinessEngine instance;
+
+    private final SharedInformers informers;
+    private final long recheckInterval;
+    private final Map<SharedIndexInformer<?>, Waiters<?>> waiters = new ConcurrentHashMap<>();
+
+    public ReadinessEngine(SharedInformers informers, long recheckInterval) {
+        this.informers = informers;
+        this.recheckInterval = recheckInterval;
+    }
+
+    public static synchronized ReadinessEngine getInstance() {
+        if (instance == null) {
+            instance = new ReadinessEngine(SharedInformers.getInstance(), TestConstants.GLOBAL_POLL_INTERVAL_SHORT);
+        }
+        return instance;
+    }
+
+    /**
+     * Blocks until the resource satisfies the condition
+     *
+     * @param description description of the wait used in logs and in the timeout exception
+     * @param type resource class
+     * @param namespace resource namespace, null for cluster scoped resources
+     * @param name resource name
+     * @param condition condition evaluated on every observed version of the resource, exceptions count as not ready
+     * @param timeout timeout in milliseconds
+     * @return the first observed version of the resource which satisfied the condition
+     */
+    public <T extends HasMetadata> T waitFor(String description, Class<T> type, String namespace, String name,
+                                             Predicate<T> condition, long timeout) {
+        LOGGER.info("Waiting for: {}", description);
+        SharedIndexInformer<T> informer = informers.informer(type, namespace);
+        Waiters<T> registry = waitersFor(informer);
+        Waiter<T> waiter = new Waiter<>(namespace, name, condition);
+        registry.add(waiter);
+
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            while (true) {
+                waiter.evaluate(informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name)));
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 && !waiter.result.isDone()) {
+                    LOGGER.error("Exception waiting for: {}", description);
+                    throw new WaitException("Timeout after " + timeout + " ms waiting for " + description);
+                }
+                try {
+                    T result = waiter.result.get(Math.max(1, Math.min(remaining, recheckInterval)), TimeUnit.MILLISECONDS);
+                    LOGGER.info("{} is ready", description);
+                    return result;
+                } catch (TimeoutException e) {
+                    LOGGER.debug("{} not ready, will recheck in {} ms", description, Math.min(remaining, recheckInterval));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            registry.remove(waiter);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends HasMetadata> Waiters<T> waitersFor(SharedIndexInformer<T> informer) {
+        return (Waiters<T>) waiters.computeIfAbsent(informer, i -> {
+            Waiters<T> registry = new Waiters<>();
+            informer.addEventHandler(registry);
+            return registry;
+        });
+    }
+
+    private static final class Waiters<T extends HasMetadata> implements ResourceEventHandler<T> {
+        private final List<Waiter<T>> waiting = new CopyOnWriteArrayList<>();
+
+        void add(Waiter<T> waiter) {
+            waiting.add(waiter);
+        }
+
+        void remove(Waiter<T> waiter) {
+            waiting.remove(waiter);
+        }
+
+        private void notifyWaiters(T resource) {
+            for (Waiter<T> waiter : waiting) {
+                if (waiter.matches(resource)) {
+                    waiter.evaluate(resource);
+                }
+            }
+        }
+
+        @Override
+        public void onAdd(T resource) {
+            notifyWaiters(resource);
+        }
+
+        @Override
+        public void onUpdate(T oldResource, T newResource) {
+            notifyWaiters(newResource);
+        }
+
+        @Override
+        public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+        }
+    }
+
+    private static final class Waiter<T extends HasMetadata> {
+        private final String namespace;
+        private final String name;
+        private final Predicate<T> condition;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Waiter(String namespace, String name, Predicate<T> condition) {
+            this.namespace = namespace;
+            this.name = name;
+            this.condition = condition;
+        }
+
+        boolean matches(T resource) {
+            return Objects.equals(name, resource.getMetadata().getName())
+                    && (namespace == null || namespace.equals(resource.getMetadata().getNamespace()));
+        }
+
+        void evaluate(T resource) {
+            if (resource == null || result.isDone()) {
+                return;
+            }
+            try {
+                if (condition.test(resource)) {
+                    result.complete(resource);
+                }
+            } catch (Exception e) {
+                LOGGER.debug("Condition for {} is not fulfilled yet: {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.informers;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.odh.test.Environment;
+import io.skodjob.testframe.resources.KubeResourceManager;
+
+import java.util.Locale;
+
+/**
+ * Process-wide lookup cache keyed by kind, namespace and name and backed by {@link SharedInformers}.
+ * Objects returned from the cache are shared with the informer and must not be modified.
+ * <p>
+ * Cached objects lag behind the API server until the informer receives the watch event, so right after a create
+ * or update {@link #get} may still return the previous resourceVersion. Callers which need to read their own write
+ * use {@link #getLatest}.
+ */
+public final class ResourceCache {
+
+    private static ResourceCache instance;
+
+    private final KubernetesClient client;
+    private final SharedInformers informers;
+    private final CacheMode mode;
+
+    public ResourceCache(KubernetesClient client, SharedInformers informers, CacheMode mode) {
+        this.client = client;
+        this.informers = informers;
+        this.mode = mode;
+    }
+
+    public static synchronized ResourceCache getInstance() {
+        if (instance == null) {
+            instance = new ResourceCache(KubeResourceManager.getKubeClient().getClient(), SharedInformers.getInstance(),
+                CacheMode.valueOf(Environment.RESOURCE_CACHE_MODE.toUpperCase(Locale.ENGLISH).replace('-', '_')));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns resource from the cache, the resource may be stale
+     *
+     * @param type resource class
+     * @param namespace resource namespace, null for cluster scoped resources
+     * @param name resource name
+     * @return resource or null if it does not exist
+     */
+    public <T extends HasMetadata> T get(Class<T> type, String namespace, String name) {
+        T cached = informers.informer(type, namespace).getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+        if (cached != null || mode == CacheMode.CACHE_ONLY) {
+            return cached;
+        }
+        return getLatest(type, namespace, name);
+    }
+
+    /**
+     * Returns current state of the resource from the API server regardless of the cache mode
+     *
+     * @param type resource class
+     * @param namespace resource namespace, null for cluster scoped resources
+     * @param name resource name
+     * @return resource or null if it does not exist
+     */
+    public <T extends HasMetadata> T getLatest(Class<T> type, String namespace, String name) {
+        if (namespace == null) {
+            return client.resources(type).withName(name).get();
+        }
+        return client.resources(type).inNamespace(namespace).withName(name).get();
+    }
+
+    public CacheMode getMode() {
+        return mode;
+    }
+}
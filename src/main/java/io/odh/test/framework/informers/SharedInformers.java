@@ -0,0 +1,95 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.informers;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.skodjob.testframe.resources.KubeResourceManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of fabric8 informers. One informer (and therefore one watch connection)
+ * is started per resource type on first use and then shared by every consumer. Namespaced types are watched
+ * in all namespaces, so tests working in randomly named namespaces do not leave a watch behind per namespace.
+ */
+public final class SharedInformers {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedInformers.class);
+
+    private static SharedInformers instance;
+
+    private final KubernetesClient client;
+    private final Map<Class<?>, SharedIndexInformer<? extends HasMetadata>> informers = new ConcurrentHashMap<>();
+    private final Map<EventIndexKey, EventReasonIndex> eventIndexes = new ConcurrentHashMap<>();
+
+    public SharedInformers(KubernetesClient client) {
+        this.client = client;
+    }
+
+    public static synchronized SharedInformers getInstance() {
+        if (instance == null) {
+            instance = new SharedInformers(KubeResourceManager.getKubeClient().getClient());
+        }
+        return instance;
+    }
+
+    /**
+     * Stops informers of the process-wide instance, if it was ever created
+     */
+    public static synchronized void stopInstance() {
+        if (instance != null) {
+            instance.stop();
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns running and synced informer for given type
+     *
+     * @param type resource class
+     * @param namespace namespace of the looked up resource, null for cluster scoped resources
+     * @return shared informer, watching all namespaces for namespaced resources
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends HasMetadata> SharedIndexInformer<T> informer(Class<T> type, String namespace) {
+        return (SharedIndexInformer<T>) informers.computeIfAbsent(type, key -> {
+            if (namespace == null) {
+                LOGGER.debug("Starting informer for {}", type.getSimpleName());
+                return client.resources(type).inform();
+            }
+            LOGGER.debug("Starting informer for {} in all namespaces", type.getSimpleName());
+            return client.resources(type).inAnyNamespace().inform();
+        });
+    }
+
+    /**
+     * Returns running index of events with given reason
+     *
+     * @param namespace namespace of the events
+     * @param reason event reason
+     * @return shared event index
+     */
+    public EventReasonIndex eventIndex(String namespace, String reason) {
+        return eventIndexes.computeIfAbsent(new EventIndexKey(namespace, reason), key -> {
+            LOGGER.debug("Starting event watch for reason {} in namespace {}", reason, namespace);
+            return new EventReasonIndex(client, namespace, reason);
+        });
+    }
+
+    public void stop() {
+        informers.values().forEach(SharedIndexInformer::stop);
+        informers.clear();
+        eventIndexes.values().forEach(EventReasonIndex::stop);
+        eventIndexes.clear();
+    }
+
+    private record EventIndexKey(String namespace, String reason) {
+    }
+}
@@ -4,22 +4,24 @@
  */
 package io.odh.test.framework.listeners;
 
-import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.odh.test.Environment;
 import io.odh.test.OdhConstants;
 import io.odh.test.TestConstants;
 import io.odh.test.TestUtils;
-import io.skodjob.testframe.LogCollector;
-import io.skodjob.testframe.LogCollectorBuilder;
+import io.odh.test.framework.logs.FailureStateCollector;
+import io.odh.test.framework.logs.SnapshotStore;
 import io.skodjob.testframe.resources.KubeResourceManager;
-import io.skodjob.testframe.utils.KubeUtils;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * jUnit5 specific class which listening on test exception callbacks
@@ -58,32 +60,30 @@ public class TestExceptionCallbackListener implements TestExecutionExceptionHand
     }
 
     private void saveKubernetesState(ExtensionContext context, Throwable throwable) throws Throwable {
+        Set<String> namespaces = new LinkedHashSet<>(List.of(
+                OdhConstants.BUNDLE_OPERATOR_NAMESPACE,
+                OdhConstants.OLM_OPERATOR_NAMESPACE,
+                OdhConstants.CONTROLLERS_NAMESPACE,
+                OdhConstants.MONITORING_NAMESPACE,
+                OdhConstants.ISTIO_SYSTEM_NAMESPACE,
+                OdhConstants.KNATIVE_SERVING_NAMESPACE));
         try {
-            KubeUtils.labelNamespace(OdhConstants.BUNDLE_OPERATOR_NAMESPACE, TestConstants.LOG_COLLECT_LABEL, "true");
-            KubeUtils.labelNamespace(OdhConstants.OLM_OPERATOR_NAMESPACE, TestConstants.LOG_COLLECT_LABEL, "true");
-            KubeUtils.labelNamespace(OdhConstants.CONTROLLERS_NAMESPACE, TestConstants.LOG_COLLECT_LABEL, "true");
-            KubeUtils.labelNamespace(OdhConstants.MONITORING_NAMESPACE, TestConstants.LOG_COLLECT_LABEL, "true");
-            KubeUtils.labelNamespace(OdhConstants.ISTIO_SYSTEM_NAMESPACE, TestConstants.LOG_COLLECT_LABEL, "true");
-            KubeUtils.labelNamespace(OdhConstants.KNATIVE_SERVING_NAMESPACE, TestConstants.LOG_COLLECT_LABEL, "true");
+            KubeResourceManager.getKubeClient().getClient().namespaces()
+                    .withLabel(TestConstants.LOG_COLLECT_LABEL, "true").list().getItems()
+                    .forEach(namespace -> namespaces.add(namespace.getMetadata().getName()));
         } catch (Exception ignored) {
-            LOGGER.warn("Cannot label namespaces for collect logs");
+            LOGGER.warn("Cannot list namespaces for collect logs");
         }
-        LogCollector logCollector = new LogCollectorBuilder()
-                .withNamespacedResources("deployment", "subscription", "operatorgroup", "configmaps", "secret")
-                .withClusterWideResources("dsci", "dsc", "nodes", "pv")
-                .withKubeClient(KubeResourceManager.getKubeClient())
-                .withKubeCmdClient(KubeResourceManager.getKubeCmdClient())
-                .withRootFolderPath(TestUtils.getLogPath(
-                        Environment.LOG_DIR.resolve("failedTest").toString(), context).toString())
-                .build();
+        Path logPath = TestUtils.getLogPath(Environment.LOG_DIR.resolve("failedTest").toString(), context);
         try {
-            logCollector.collectFromNamespacesWithLabels(new LabelSelectorBuilder()
-                    .withMatchLabels(Collections.singletonMap(TestConstants.LOG_COLLECT_LABEL, "true"))
-                    .build());
+            new FailureStateCollector(KubeResourceManager.getKubeClient().getClient(), SnapshotStore.getInstance(),
+                    Environment.FAILURE_CAPTURE_PARALLELISM,
+                    Environment.FAILURE_CAPTURE_MAX_MB * 1024L * 1024L,
+                    Duration.ofSeconds(Environment.FAILURE_CAPTURE_TIMEOUT_SECONDS))
+                    .collect(logPath.resolveSibling(logPath.getFileName() + ".tar.gz"), namespaces);
         } catch (Exception ignored) {
             LOGGER.warn("Failed to collect");
         }
-        logCollector.collectClusterWideResources();
         throw throwable;
     }
 }
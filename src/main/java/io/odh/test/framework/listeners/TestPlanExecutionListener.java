@@ -5,6 +5,7 @@
 package io.odh.test.framework.listeners;
 
 import io.odh.test.Environment;
+import io.odh.test.framework.informers.SharedInformers;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
 import org.slf4j.Logger;
@@ -26,6 +27,7 @@ public class TestPlanExecutionListener implements TestExecutionListener {
     }
 
     public void testPlanExecutionFinished(TestPlan testPlan) {
+        SharedInformers.stopInstance();
         LOGGER.info("=======================================================================");
         LOGGER.info("=======================================================================");
         LOGGER.info("                        Test run finished");
@@ -0,0 +1,318 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted mix of operations following a {@link LoadSchedule} with open-loop scheduling. Every operation
+ * is started at its due time no matter how long the previous ones take, and its latency is measured
+ * from that due time. A slow server therefore shows up as growing latency instead of silently lowering the
+ * offered load. Latencies are recorded per operation into HdrHistograms with microsecond resolution.
+ * <p>
+ * A blocking {@link Operation} holds a worker thread until it finishes, an {@link AsyncOperation} only returns
+ * a future, e.g. of {@code HttpClient.sendAsync}, so thousands of requests can be in flight without a thread each.
+ */
+public final class LoadGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final LoadSchedule schedule;
+    private final int maxConcurrency;
+    private final Map<String, WeightedOperation> operations = new LinkedHashMap<>();
+    private Duration drainTimeout = Duration.ofMinutes(5);
+    // threads of blocking operations, their number is limited by the operations in flight
+    private ExecutorService workers;
+
+    /**
+     * Single operation of the load
+     */
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Executes the operation
+         *
+         * @return false when the operation had nothing to work on, e.g. no run to delete, and is not recorded
+         * @throws Exception failure of the operation, counted as an error
+         */
+        boolean execute() throws Exception;
+    }
+
+    /**
+     * Single non-blocking operation of the load
+     */
+    @FunctionalInterface
+    public interface AsyncOperation {
+        /**
+         * Starts the operation, must not block
+         *
+         * @return future completed with false when the operation had nothing to work on, completed exceptionally
+         * on failure of the operation
+         */
+        CompletableFuture<Boolean> start();
+    }
+
+    /**
+     * @param rate target rate of all operations together per second
+     * @param duration time during which operations are started
+     * @param maxConcurrency maximal number of operations in flight, 0 for no limit
+     */
+    public LoadGenerator(double rate, Duration duration, int maxConcurrency) {
+        this(LoadSchedule.constant(rate, duration), maxConcurrency);
+    }
+
+    /**
+     * @param schedule due times of the operations
+     * @param maxConcurrency maximal number of operations in flight, 0 for no limit. Operations over the limit wait
+     *                       for a free slot and the wait counts into their latency.
+     */
+    public LoadGenerator(LoadSchedule schedule, int maxConcurrency) {
+        this.schedule = schedule;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Adds operation to the mix
+     *
+     * @param name name of the operation in the report
+     * @param weight share of the operation in the mix, 0 disables the operation
+     * @param operation the operation
+     * @return this generator
+     */
+    public LoadGenerator operation(String name, int weight, Operation operation) {
+        return asyncOperation(name, weight, () -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return operation.execute();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, workers));
+    }
+
+    /**
+     * Adds non-blocking operation to the mix
+     *
+     * @param name name of the operation in the report
+     * @param weight share of the operation in the mix, 0 disables the operation
+     * @param operation the operation
+     * @return this generator
+     */
+    public LoadGenerator asyncOperation(String name, int weight, AsyncOperation operation) {
+        if (weight > 0) {
+            operations.put(name, new WeightedOperation(name, weight, operation));
+        }
+        return this;
+    }
+
+    /**
+     * Sets how long {@link #run()} waits for operations in flight once all of them were started. Operations which
+     * do not finish in time are left running and are not reported, operations still waiting for a slot are dropped.
+     *
+     * @param drainTimeout maximal wait for the operations in flight, 5 minutes by default
+     * @return this generator
+     */
+    public LoadGenerator drainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    /**
+     * Parses mix in form {@code import=1,run=2,list=6}
+     *
+     * @param mix comma separated name=weight pairs
+     * @return weights of the operations in the order of the mix
+     */
+    public static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.trim().split("=");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry '" + entry + "', expected name=weight");
+            }
+            weights.put(nameAndWeight[0].trim(), Integer.valueOf(nameAndWeight[1].trim()));
+        }
+        return weights;
+    }
+
+    /**
+     * Runs the load and waits for all started operations to finish
+     *
+     * @return latencies and throughput of the operations
+     */
+    public LoadReport run() {
+        if (operations.isEmpty()) {
+            throw new IllegalStateException("No operation in the load mix");
+        }
+        long total = schedule.count();
+        LOGGER.info("Starting {} operations at {} with mix {}", total, schedule, operations.values().stream()
+                .map(operation -> operation.name + "=" + operation.weight).toList());
+
+        workers = Executors.newCachedThreadPool();
+        InFlight inFlight = new InFlight(total);
+        long start = System.nanoTime();
+        try {
+            for (long i = 0; i < total; i++) {
+                long due = start + schedule.dueNanos(i);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                WeightedOperation operation = next();
+                inFlight.submit(() -> operation.start(due).whenComplete((ignored, e) -> inFlight.release()));
+            }
+            inFlight.finished.get(drainTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Operations did not finish in {}, reporting finished ones only, {} waiting operations dropped",
+                    drainTimeout, inFlight.dropWaiting());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        } finally {
+            // running operations are not interrupted, an interrupted request may still be executed by the server
+            // and its result, e.g. id of a created resource, would be lost
+            workers.shutdown();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        List<LoadReport.OperationStats> stats = new ArrayList<>();
+        for (WeightedOperation operation : operations.values()) {
+            stats.add(new LoadReport.OperationStats(operation.name, operation.latencies.copy(),
+                    operation.errors.get(), operation.skipped.get()));
+        }
+        LoadReport report = new LoadReport(elapsed, stats);
+        LOGGER.info("Load finished\n{}", report.format());
+        return report;
+    }
+
+    /**
+     * Smooth weighted round-robin, operations are interleaved in proportion to their weights
+     */
+    private WeightedOperation next() {
+        int totalWeight = 0;
+        WeightedOperation selected = null;
+        for (WeightedOperation operation : operations.values()) {
+            operation.current += operation.weight;
+            totalWeight += operation.weight;
+            if (selected == null || operation.current > selected.current) {
+                selected = operation;
+            }
+        }
+        selected.current -= totalWeight;
+        return selected;
+    }
+
+    /**
+     * Operations in flight, operations over the limit are queued and started when a running one finishes
+     */
+    private final class InFlight {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private final AtomicLong remaining;
+        private final CompletableFuture<Void> finished = new CompletableFuture<>();
+        private int running;
+
+        InFlight(long total) {
+            remaining = new AtomicLong(total);
+            if (total == 0) {
+                finished.complete(null);
+            }
+        }
+
+        void submit(Runnable operation) {
+            synchronized (this) {
+                if (maxConcurrency > 0 && running >= maxConcurrency) {
+                    waiting.add(operation);
+                    return;
+                }
+                running++;
+            }
+            operation.run();
+        }
+
+        /**
+         * @return number of dropped operations which were waiting for a slot
+         */
+        synchronized int dropWaiting() {
+            int dropped = waiting.size();
+            waiting.clear();
+            return dropped;
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            if (next != null) {
+                // not started directly, an operation failing right away would recurse through the whole queue
+                workers.execute(next);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                finished.complete(null);
+            }
+        }
+    }
+
+    private static final class WeightedOperation {
+        private final String name;
+        private final int weight;
+        private final AsyncOperation operation;
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        // only touched by the scheduling thread
+        private int current;
+
+        WeightedOperation(String name, int weight, AsyncOperation operation) {
+            this.name = name;
+            this.weight = weight;
+            this.operation = operation;
+        }
+
+        CompletableFuture<Boolean> start(long due) {
+            CompletableFuture<Boolean> started;
+            try {
+                started = operation.start();
+            } catch (RuntimeException | AssertionError e) {
+                started = CompletableFuture.failedFuture(e);
+            }
+            return started.whenComplete((executed, e) -> {
+                if (e != null) {
+                    errors.incrementAndGet();
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    LOGGER.debug("Operation {} failed: {}", name, cause.getMessage());
+                } else if (Boolean.FALSE.equals(executed)) {
+                    skipped.incrementAndGet();
+                } else {
+                    latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due)));
+                }
+            });
+        }
+    }
+}
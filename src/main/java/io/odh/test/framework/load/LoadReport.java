@@ -0,0 +1,98 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Result of a {@link LoadGenerator} run
+ *
+ * @param elapsed time from the start of the first operation until the last one finished
+ * @param operations statistics per operation in the order of the mix
+ */
+public record LoadReport(Duration elapsed, List<OperationStats> operations) {
+
+    /**
+     * Statistics of one operation
+     *
+     * @param name name of the operation
+     * @param latencies latencies of successful executions in microseconds, measured from the due time
+     * @param errors number of failed executions
+     * @param skipped number of executions which had nothing to work on
+     */
+    public record OperationStats(String name, Histogram latencies, long errors, long skipped) {
+
+        public long completed() {
+            return latencies.getTotalCount();
+        }
+
+        /**
+         * Latency at given percentile in milliseconds
+         *
+         * @param percentile percentile, e.g. 99.9
+         * @return latency in milliseconds
+         */
+        public double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+
+    /**
+     * Returns statistics of the operation
+     *
+     * @param name name of the operation
+     * @return statistics of the operation
+     */
+    public OperationStats operation(String name) {
+        return operations.stream()
+                .filter(stats -> stats.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("No operation " + name + " in the load report"));
+    }
+
+    /**
+     * Completed operations per second
+     *
+     * @param stats statistics of the operation
+     * @return throughput of the operation
+     */
+    public double throughput(OperationStats stats) {
+        return stats.completed() * 1_000_000_000.0 / Math.max(1, elapsed.toNanos());
+    }
+
+    /**
+     * Share of failed executions
+     *
+     * @param stats statistics of the operation
+     * @return failed executions divided by all recorded executions, 0 when nothing was executed
+     */
+    public double errorRate(OperationStats stats) {
+        long executed = stats.completed() + stats.errors();
+        return executed == 0 ? 0 : (double) stats.errors() / executed;
+    }
+
+    /**
+     * Formats the report as a table with one row per operation
+     *
+     * @return formatted report
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-12s %9s %7s %7s %7s %10s %10s %10s %10s %10s%n",
+                "operation", "completed", "errors", "err %", "skipped", "ops/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (OperationStats stats : operations) {
+            table.append(String.format(Locale.ROOT, "%-12s %9d %7d %7.2f %7d %10.2f %10.3f %10.3f %10.3f %10.3f%n",
+                    stats.name(), stats.completed(), stats.errors(), errorRate(stats) * 100, stats.skipped(), throughput(stats),
+                    stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(99.9),
+                    stats.latencies().getMaxValue() / 1000.0));
+        }
+        table.append(String.format(Locale.ROOT, "elapsed %.3f s", elapsed.toMillis() / 1000.0));
+        return table.toString();
+    }
+}
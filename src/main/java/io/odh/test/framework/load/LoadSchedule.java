@@ -0,0 +1,98 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.load;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Due times of operations of an open-loop load. The rate changes linearly from the start rate to the end rate
+ * during the duration, equal rates give a constant rate schedule.
+ */
+public final class LoadSchedule {
+
+    public static final String CONSTANT = "constant";
+    public static final String RAMP = "ramp";
+
+    private final double startRate;
+    private final double endRate;
+    private final Duration duration;
+
+    private LoadSchedule(double startRate, double endRate, Duration duration) {
+        if (startRate < 0 || endRate < 0 || startRate + endRate == 0) {
+            throw new IllegalArgumentException("Invalid load rates " + startRate + " -> " + endRate);
+        }
+        this.startRate = startRate;
+        this.endRate = endRate;
+        this.duration = duration;
+    }
+
+    /**
+     * @param rate operations per second
+     * @param duration time during which operations are started
+     * @return schedule with constant rate
+     */
+    public static LoadSchedule constant(double rate, Duration duration) {
+        return new LoadSchedule(rate, rate, duration);
+    }
+
+    /**
+     * @param startRate operations per second at the start
+     * @param endRate operations per second at the end
+     * @param duration time during which operations are started
+     * @return schedule with linearly changing rate
+     */
+    public static LoadSchedule ramp(double startRate, double endRate, Duration duration) {
+        return new LoadSchedule(startRate, endRate, duration);
+    }
+
+    /**
+     * Creates schedule by its name, {@value #RAMP} ramps up from zero to the rate
+     *
+     * @param kind {@value #CONSTANT} or {@value #RAMP}
+     * @param rate operations per second, at the end for the ramp
+     * @param duration time during which operations are started
+     * @return the schedule
+     */
+    public static LoadSchedule of(String kind, double rate, Duration duration) {
+        return switch (kind.toLowerCase(Locale.ROOT)) {
+            case CONSTANT -> constant(rate, duration);
+            case RAMP -> ramp(0, rate, duration);
+            default -> throw new IllegalArgumentException("Unknown load schedule " + kind);
+        };
+    }
+
+    /**
+     * Number of operations, the integral of the rate over the duration
+     *
+     * @return number of operations
+     */
+    public long count() {
+        return (long) ((startRate + endRate) / 2 * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Due time of the n-th operation, solution of {@code n = startRate * t + (endRate - startRate) * t^2 / (2 * duration)}
+     *
+     * @param n index of the operation starting from 0
+     * @return nanoseconds from the start of the load
+     */
+    public long dueNanos(long n) {
+        double seconds = duration.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        double acceleration = (endRate - startRate) / (2 * seconds);
+        double time = acceleration == 0
+                ? n / startRate
+                : (-startRate + Math.sqrt(startRate * startRate + 4 * acceleration * n)) / (2 * acceleration);
+        return (long) (time * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Override
+    public String toString() {
+        return startRate == endRate
+                ? String.format(Locale.ROOT, "%.2f/s for %s", startRate, duration)
+                : String.format(Locale.ROOT, "%.2f/s -> %.2f/s for %s", startRate, endRate, duration);
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.logs;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Captures state of the cluster for a failed test into a single gzip compressed tar archive.
+ * Namespaces are collected concurrently on a bounded pool and every resource list is written into the archive
+ * as soon as it is fetched, container logs are spooled through temporary files. Capture is limited by a size budget
+ * (uncompressed bytes written into the archive) and a time budget, whatever does not fit is listed
+ * in {@value #SKIPPED_ENTRY} inside the archive.
+ * <p>
+ * Resources are stored one per entry under objects/&lt;sha256&gt;.yaml and {@value #INDEX_ENTRY} maps every captured
+ * resource to the archive holding its content. With a shared {@link SnapshotStore} only resources whose
+ * resourceVersion changed since a previous capture are serialized and written again.
+ */
+public class FailureStateCollector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FailureStateCollector.class);
+
+    static final String SKIPPED_ENTRY = "skipped.txt";
+    static final String INDEX_ENTRY = "index.txt";
+    private static final int LOG_CHUNK_SIZE = 64 * 1024;
+
+    public static final List<ResourceDefinitionContext> NAMESPACED_RESOURCES = List.of(
+            resource("apps", "v1", "Deployment", "deployments", true),
+            resource("", "v1", "ConfigMap", "configmaps", true),
+            resource("", "v1", "Secret", "secrets", true),
+            resource("", "v1", "Event", "events", true),
+            resource("operators.coreos.com", "v1alpha1", "Subscription", "subscriptions", true),
+            resource("operators.coreos.com", "v1", "OperatorGroup", "operatorgroups", true));
+
+    public static final List<ResourceDefinitionContext> CLUSTER_WIDE_RESOURCES = List.of(
+            resource("dscinitialization.opendatahub.io", "v1", "DSCInitialization", "dscinitializations", false),
+            resource("datasciencecluster.opendatahub.io", "v1", "DataScienceCluster", "datascienceclusters", false),
+            resource("", "v1", "Node", "nodes", false),
+            resource("", "v1", "PersistentVolume", "persistentvolumes", false));
+
+    private final KubernetesClient client;
+    private final SnapshotStore store;
+    private final int parallelism;
+    private final long maxBytes;
+    private final Duration timeout;
+
+    public FailureStateCollector(KubernetesClient client, int parallelism, long maxBytes, Duration timeout) {
+        this(client, new SnapshotStore(), parallelism, maxBytes, timeout);
+    }
+
+    public FailureStateCollector(KubernetesClient client, SnapshotStore store, int parallelism, long maxBytes, Duration timeout) {
+        this.client = client;
+        this.store = store;
+        this.parallelism = parallelism;
+        this.maxBytes = maxBytes;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Result of the capture
+     *
+     * @param archive written archive
+     * @param entries number of entries written into the archive
+     * @param bytes uncompressed size of written entries
+     * @param reused number of resources unchanged since a previous capture, referenced instead of written
+     * @param skipped entries which were not written or were truncated because the size or time budget was exhausted
+     * @param timedOut whether the time budget was exhausted before all namespaces were collected
+     */
+    public record Summary(Path archive, int entries, long bytes, int reused, List<String> skipped, boolean timedOut) {
+    }
+
+    /**
+     * Collects namespaced resources, pods and container logs of given namespaces together with cluster-wide resources
+     *
+     * @param archive path of the tar.gz file to write, parent directories are created
+     * @param namespaces namespaces to collect
+     * @return summary of the capture
+     */
+    public Summary collect(Path archive, Collection<String> namespaces) {
+        Instant start = Instant.now();
+        List<String> distinctNamespaces = namespaces.stream().distinct().toList();
+        BudgetedArchive output = new BudgetedArchive(archive, maxBytes);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, distinctNamespaces.size() + 1)));
+        boolean timedOut = false;
+        try {
+            executor.execute(() -> collectClusterWide(output));
+            for (String namespace : distinctNamespaces) {
+                executor.execute(() -> collectNamespace(output, namespace));
+            }
+            executor.shutdown();
+            timedOut = !executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut = true;
+        } finally {
+            try {
+                // Entries still being fetched are listed as timed out, late writers find the archive closed
+                output.close();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        Summary summary = output.summary(archive, timedOut);
+        LOGGER.info("Captured {} entries ({} bytes, {} reused, {} skipped{}) into {} in {}", summary.entries(), summary.bytes(),
+                summary.reused(), summary.skipped().size(), timedOut ? ", timed out" : "", archive, Duration.between(start, Instant.now()));
+        return summary;
+    }
+
+    private void collectClusterWide(BudgetedArchive output) {
+        for (ResourceDefinitionContext resource : CLUSTER_WIDE_RESOURCES) {
+            String name = "cluster/" + resource.getPlural();
+            if (!output.begin(name)) {
+                continue;
+            }
+            try {
+                collectResources(output, name, client.genericKubernetesResources(resource).list().getItems());
+            } catch (KubernetesClientException e) {
+                output.abandon(name);
+                LOGGER.debug("Unable to list {}: {}", resource.getPlural(), e.getMessage());
+            }
+        }
+    }
+
+    private void collectNamespace(BudgetedArchive output, String namespace) {
+        for (ResourceDefinitionContext resource : NAMESPACED_RESOURCES) {
+            String name = namespace + "/" + resource.getPlural();
+            if (!output.begin(name)) {
+                continue;
+            }
+            try {
+                collectResources(output, name, client.genericKubernetesResources(resource).inNamespace(namespace).list().getItems());
+            } catch (KubernetesClientException e) {
+                output.abandon(name);
+                LOGGER.debug("Unable to list {} in {}: {}", resource.getPlural(), namespace, e.getMessage());
+            }
+        }
+
+        String podsName = namespace + "/pods";
+        if (!output.begin(podsName)) {
+            return;
+        }
+        PodList pods;
+        try {
+            pods = client.pods().inNamespace(namespace).list();
+        } catch (KubernetesClientException e) {
+            output.abandon(podsName);
+            LOGGER.debug("Unable to list pods in {}: {}", namespace, e.getMessage());
+            return;
+        }
+        collectResources(output, podsName, pods.getItems());
+        for (Pod pod : pods.getItems()) {
+            for (Container container : pod.getSpec().getContainers()) {
+                collectLog(output, namespace, pod.getMetadata().getName(), container.getName());
+            }
+        }
+    }
+
+    /**
+     * Copies container log into a temporary file chunk by chunk, every chunk reserves its share of the size budget first.
+     * When the budget runs out, the rest of the log is not transferred at all and the prefix read so far is kept.
+     * The log is spooled through a file because a tar entry needs its size before the content is written.
+     */
+    private void collectLog(BudgetedArchive output, String namespace, String pod, String container) {
+        String name = namespace + "/logs/" + pod + "/" + container + ".log";
+        if (!output.begin(name)) {
+            return;
+        }
+        long size = 0;
+        boolean truncated = false;
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("odh-log-", ".log");
+            try (InputStream log = client.pods().inNamespace(namespace).withName(pod).inContainer(container).getLogInputStream();
+                 OutputStream file = Files.newOutputStream(spool)) {
+                byte[] chunk = new byte[LOG_CHUNK_SIZE];
+                int read;
+                while (!truncated && (read = log.readNBytes(chunk, 0, chunk.length)) > 0) {
+                    int reserved = (int) output.reserve(read);
+                    file.write(chunk, 0, reserved);
+                    size += reserved;
+                    truncated = reserved < read;
+                }
+            }
+            if (truncated) {
+                output.skip(name + " (truncated after " + size + " bytes)");
+            }
+            output.addReserved(name, spool, size);
+        } catch (KubernetesClientException | IOException e) {
+            output.release(name, size);
+            LOGGER.debug("Unable to get log of {}/{}/{}: {}", namespace, pod, container, e.getMessage());
+        } finally {
+            if (spool != null) {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    LOGGER.debug("Unable to delete {}: {}", spool, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes resources of one list, resources unchanged since a previous capture are only referenced in the index
+     */
+    private void collectResources(BudgetedArchive output, String listName, List<? extends HasMetadata> resources) {
+        output.abandon(listName);
+        for (HasMetadata resource : resources) {
+            String key = listName + "/" + resource.getMetadata().getName();
+            String resourceVersion = resource.getMetadata().getResourceVersion();
+            SnapshotStore.Blob blob = store.find(key, resourceVersion);
+            if (blob != null) {
+                output.reference(key, resourceVersion, blob);
+                continue;
+            }
+            byte[] content = Serialization.asYaml(resource).getBytes(StandardCharsets.UTF_8);
+            String digest = SnapshotStore.digest(content);
+            blob = store.findContent(digest);
+            if (blob == null) {
+                blob = new SnapshotStore.Blob(digest, output.path);
+                if (!output.add(blob.entryName(), content)) {
+                    output.skip(key);
+                    continue;
+                }
+            }
+            store.record(key, resourceVersion, blob);
+            output.index(key, resourceVersion, blob);
+        }
+    }
+
+    private static ResourceDefinitionContext resource(String group, String version, String kind, String plural, boolean namespaced) {
+        return new ResourceDefinitionContext.Builder()
+                .withGroup(group)
+                .withVersion(version)
+                .withKind(kind)
+                .withPlural(plural)
+                .withNamespaced(namespaced)
+                .build();
+    }
+
+    /**
+     * Tar archive shared by collecting threads, entries are written whole so they never interleave
+     */
+    private static final class BudgetedArchive implements AutoCloseable {
+        private final Path path;
+        private final TarArchiveOutputStream tar;
+        private final long maxBytes;
+        private final List<String> skipped = new ArrayList<>();
+        private final Set<String> pending = new LinkedHashSet<>();
+        private final Set<String> written = new HashSet<>();
+        private final List<String> index = new ArrayList<>();
+        private int reused;
+        private int entries;
+        private long bytes;
+        // budget reserved by entries which are still being fetched
+        private long reserved;
+        private boolean closed;
+
+        BudgetedArchive(Path archive, long maxBytes) {
+            this.path = archive.toAbsolutePath();
+            try {
+                Files.createDirectories(path.getParent());
+                OutputStream file = new BufferedOutputStream(Files.newOutputStream(archive));
+                this.tar = new TarArchiveOutputStream(new GZIPOutputStream(file), StandardCharsets.UTF_8.name());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            this.tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * Registers an entry which is about to be fetched
+         *
+         * @param name entry name
+         * @return false when the entry should not be fetched at all because the archive is closed or full
+         */
+        synchronized boolean begin(String name) {
+            if (closed || bytes + reserved >= maxBytes) {
+                skipped.add(name);
+                return false;
+            }
+            pending.add(name);
+            return true;
+        }
+
+        synchronized void abandon(String name) {
+            pending.remove(name);
+        }
+
+        /**
+         * Reserves part of the size budget for an entry which is being fetched
+         *
+         * @param requested number of bytes the caller wants to write
+         * @return number of bytes reserved, less than requested when the budget is exhausted or the archive is closed
+         */
+        synchronized long reserve(long requested) {
+            if (closed) {
+                return 0;
+            }
+            long granted = Math.max(0, Math.min(requested, maxBytes - bytes - reserved));
+            reserved += granted;
+            return granted;
+        }
+
+        /**
+         * Gives back reserved budget of an entry which will not be written
+         */
+        synchronized void release(String name, long size) {
+            pending.remove(name);
+            reserved -= size;
+        }
+
+        synchronized Summary summary(Path archive, boolean timedOut) {
+            return new Summary(archive, entries, bytes, reused, List.copyOf(skipped), timedOut);
+        }
+
+        synchronized void skip(String name) {
+            if (!closed) {
+                skipped.add(name);
+            }
+        }
+
+        synchronized void reference(String key, String resourceVersion, SnapshotStore.Blob blob) {
+            reused++;
+            index(key, resourceVersion, blob);
+        }
+
+        synchronized void index(String key, String resourceVersion, SnapshotStore.Blob blob) {
+            index.add(String.join("\t", key, resourceVersion,
+                    path.getParent().relativize(blob.archive()) + "!" + blob.entryName()));
+        }
+
+        /**
+         * Writes an entry unless the archive is closed or the entry does not fit into the size budget.
+         * An entry with the same name which is already present is not written again.
+         *
+         * @param name entry name
+         * @param data entry content
+         * @return whether the entry is present in the archive
+         */
+        synchronized boolean add(String name, byte[] data) {
+            if (closed) {
+                // already listed as timed out when the archive was closed
+                return false;
+            }
+            pending.remove(name);
+            if (!written.add(name)) {
+                return true;
+            }
+            if (bytes + reserved + data.length > maxBytes) {
+                written.remove(name);
+                return false;
+            }
+            try {
+                write(name, data);
+                entries++;
+                bytes += data.length;
+                return true;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Writes an entry whose size was already reserved with {@link #reserve(long)}, unless the archive is closed
+         *
+         * @param name entry name
+         * @param content file with the entry content
+         * @param size reserved size, the number of bytes copied from the file
+         */
+        synchronized void addReserved(String name, Path content, long size) {
+            reserved -= size;
+            if (closed) {
+                return;
+            }
+            pending.remove(name);
+            written.add(name);
+            TarArchiveEntry entry = new TarArchiveEntry(name);
+            entry.setSize(size);
+            entry.setModTime(System.currentTimeMillis());
+            try {
+                tar.putArchiveEntry(entry);
+                Files.copy(content, tar);
+                tar.closeArchiveEntry();
+                entries++;
+                bytes += size;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void write(String name, byte[] data) throws IOException {
+            TarArchiveEntry entry = new TarArchiveEntry(name);
+            entry.setSize(data.length);
+            entry.setModTime(System.currentTimeMillis());
+            tar.putArchiveEntry(entry);
+            tar.write(data);
+            tar.closeArchiveEntry();
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.forEach(name -> skipped.add(name + " (timed out)"));
+            try (tar) {
+                if (!index.isEmpty()) {
+                    index.sort(null);
+                    write(INDEX_ENTRY, String.join(System.lineSeparator(), index).getBytes(StandardCharsets.UTF_8));
+                }
+                if (!skipped.isEmpty()) {
+                    write(SKIPPED_ENTRY, String.join(System.lineSeparator(), skipped).getBytes(StandardCharsets.UTF_8));
+                }
+                tar.finish();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.logs;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ContainerResource;
+import io.fabric8.kubernetes.client.dsl.Loggable;
+import io.odh.test.TestConstants;
+import io.odh.test.framework.matchers.LogScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Scans logs of every container of every pod in given namespaces, or of pods selected by labels, for unexpected errors.
+ * Container logs are streamed through {@link LogScanner} concurrently on a bounded pool, so the analysis time
+ * is driven by the biggest log rather than by the number of pods. Findings are merged into a single {@link Report}.
+ */
+public class PodLogAnalyzer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PodLogAnalyzer.class);
+
+    public static final int DEFAULT_PARALLELISM = 8;
+    public static final int DEFAULT_ERRORS_PER_CONTAINER = 10;
+
+    private final KubernetesClient client;
+    private final LogScanner scanner;
+    private final int parallelism;
+    private final int errorsPerContainer;
+
+    public PodLogAnalyzer(KubernetesClient client, LogScanner scanner, int parallelism, int errorsPerContainer) {
+        this.client = client;
+        this.scanner = scanner;
+        this.parallelism = parallelism;
+        this.errorsPerContainer = errorsPerContainer;
+    }
+
+    /**
+     * Errors found in a log of one container
+     *
+     * @param namespace pod namespace
+     * @param pod pod name
+     * @param container container name
+     * @param errors unexpected errors found in the log
+     */
+    public record Finding(String namespace, String pod, String container, List<String> errors) {
+        @Override
+        public String toString() {
+            return namespace + "/" + pod + "/" + container + ": " + String.join(System.lineSeparator(), errors);
+        }
+    }
+
+    /**
+     * Merged result of the analysis
+     *
+     * @param scannedContainers number of containers whose logs were scanned
+     * @param findings containers with unexpected errors, sorted by namespace, pod and container
+     * @param unreadable containers whose logs could not be read, e.g. containers which have not started yet
+     */
+    public record Report(int scannedContainers, List<Finding> findings, List<String> unreadable) {
+        public boolean hasNoErrors() {
+            return findings.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Scanned %d container logs, %d with unexpected errors%n%s", scannedContainers, findings.size(),
+                    findings.stream().map(Finding::toString).collect(Collectors.joining(System.lineSeparator())));
+        }
+    }
+
+    /**
+     * Pods whose logs are analyzed
+     *
+     * @param namespace namespace of the pods, missing namespace is skipped
+     * @param selector selector of the pods, null for all pods in the namespace
+     */
+    public record PodSelection(String namespace, LabelSelector selector) {
+        public static PodSelection allIn(String namespace) {
+            return new PodSelection(namespace, null);
+        }
+    }
+
+    private record Target(String namespace, String pod, String container) {
+        String name() {
+            return namespace + "/" + pod + "/" + container;
+        }
+    }
+
+    private record Outcome(Target target, List<String> errors, boolean readable) {
+    }
+
+    /**
+     * Analyzes logs of all containers in given namespaces
+     *
+     * @param namespaces namespaces to scan, missing namespaces are skipped
+     * @param since only log lines after this instant are scanned, null for the whole log
+     * @return merged report
+     */
+    public Report analyze(Collection<String> namespaces, Instant since) {
+        return analyzePods(namespaces.stream().distinct().map(PodSelection::allIn).toList(), since);
+    }
+
+    /**
+     * Analyzes logs of all containers of the selected pods, e.g. of an operator sharing its namespace with other operators
+     *
+     * @param selections pods to scan
+     * @param since only log lines after this instant are scanned, null for the whole log
+     * @return merged report
+     */
+    public Report analyzePods(Collection<PodSelection> selections, Instant since) {
+        List<Target> targets = new ArrayList<>();
+        for (PodSelection selection : selections.stream().distinct().toList()) {
+            List<Pod> pods = selection.selector() == null
+                    ? client.pods().inNamespace(selection.namespace()).list().getItems()
+                    : client.pods().inNamespace(selection.namespace()).withLabelSelector(selection.selector()).list().getItems();
+            for (Pod pod : pods) {
+                for (Container container : pod.getSpec().getContainers()) {
+                    targets.add(new Target(selection.namespace(), pod.getMetadata().getName(), container.getName()));
+                }
+            }
+        }
+        // a pod may match several selections
+        targets = targets.stream().distinct().toList();
+        LOGGER.info("Scanning logs of {} containers in namespaces {}", targets.size(),
+                selections.stream().map(PodSelection::namespace).distinct().toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, targets.size())));
+        try {
+            List<CompletableFuture<Outcome>> outcomes = targets.stream()
+                    .map(target -> CompletableFuture.supplyAsync(() -> scan(target, since), executor))
+                    .toList();
+
+            List<Finding> findings = new ArrayList<>();
+            List<String> unreadable = new ArrayList<>();
+            for (CompletableFuture<Outcome> future : outcomes) {
+                Outcome outcome = future.join();
+                if (!outcome.readable()) {
+                    unreadable.add(outcome.target().name());
+                } else if (!outcome.errors().isEmpty()) {
+                    Target target = outcome.target();
+                    findings.add(new Finding(target.namespace(), target.pod(), target.container(), outcome.errors()));
+                }
+            }
+            findings.sort(Comparator.comparing(Finding::namespace).thenComparing(Finding::pod).thenComparing(Finding::container));
+            return new Report(targets.size() - unreadable.size(), List.copyOf(findings), List.copyOf(unreadable));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Outcome scan(Target target, Instant since) {
+        ContainerResource container = client.pods().inNamespace(target.namespace()).withName(target.pod())
+                .inContainer(target.container());
+        Loggable log = since == null ? container : container.sinceTime(TestConstants.TIMESTAMP_DATE_FORMAT.format(since));
+        try (Reader reader = log.getLogReader()) {
+            List<String> errors = scanner.findUnexpectedErrors(reader, errorsPerContainer);
+            errors.forEach(error -> LOGGER.error("{}: {}", target.name(), error));
+            return new Outcome(target, errors, true);
+        } catch (KubernetesClientException | IOException e) {
+            LOGGER.warn("Unable to read log of {}: {}", target.name(), e.getMessage());
+            return new Outcome(target, List.of(), false);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.logs;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed store of resources already captured by {@link FailureStateCollector} during the test run.
+ * Serialized resources are identified by SHA-256 of their content and remember the archive which contains them.
+ * The first capture is a full baseline, later captures write only resources whose resourceVersion changed
+ * and reference the rest from the archive where they were written before.
+ */
+public class SnapshotStore {
+
+    private static SnapshotStore instance;
+
+    private final Map<String, Version> versions = new ConcurrentHashMap<>();
+    private final Map<String, Blob> blobs = new ConcurrentHashMap<>();
+
+    /**
+     * Serialized resource stored in an archive
+     *
+     * @param digest hex encoded SHA-256 of the content
+     * @param archive archive which contains the content as objects/&lt;digest&gt;.yaml
+     */
+    public record Blob(String digest, Path archive) {
+        public String entryName() {
+            return "objects/" + digest + ".yaml";
+        }
+    }
+
+    private record Version(String resourceVersion, Blob blob) {
+    }
+
+    public static synchronized SnapshotStore getInstance() {
+        if (instance == null) {
+            instance = new SnapshotStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Finds resource captured before in the same version
+     *
+     * @param key resource identification, e.g. namespace/plural/name
+     * @param resourceVersion current resourceVersion of the resource
+     * @return stored blob or null when the resource was not captured yet or it has changed since
+     */
+    public Blob find(String key, String resourceVersion) {
+        Version version = versions.get(key);
+        return version != null && resourceVersion != null && resourceVersion.equals(version.resourceVersion())
+                ? version.blob() : null;
+    }
+
+    /**
+     * Finds content captured before, possibly under a different key or version
+     *
+     * @param digest hex encoded SHA-256 of the content
+     * @return stored blob or null when the content was not captured yet
+     */
+    public Blob findContent(String digest) {
+        return blobs.get(digest);
+    }
+
+    /**
+     * Records content which was written into an archive
+     *
+     * @param key resource identification
+     * @param resourceVersion resourceVersion of the written resource
+     * @param blob written content
+     */
+    public void record(String key, String resourceVersion, Blob blob) {
+        blobs.putIfAbsent(blob.digest(), blob);
+        versions.put(key, new Version(resourceVersion, blob));
+    }
+
+    public static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
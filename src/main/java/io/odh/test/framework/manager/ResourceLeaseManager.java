@@ -0,0 +1,314 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.manager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.odh.test.TestConstants;
+import io.odh.test.framework.wait.BackoffWait;
+import io.skodjob.testframe.interfaces.ResourceType;
+import io.skodjob.testframe.resources.KubeResourceManager;
+import io.skodjob.testframe.resources.ResourceItem;
+import io.skodjob.testframe.wait.WaitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reference counted leases of singleton cluster resources like DSCInitialization and DataScienceCluster.
+ * The desired resource is identified by a hash of everything except metadata and status. While the resource
+ * is leased, every holder asking for the same hash gets the already ready instance, holders asking for
+ * a different hash are blocked until the last holder releases its lease. A resource which already exists
+ * on the cluster is adopted and only updated when its hash differs, so the operator reconciles just the delta.
+ * The resource is deleted when the last lease is released.
+ * <p>
+ * Sharing therefore only happens between test classes whose leases overlap, that is between classes running
+ * in parallel. When the classes run sequentially, every class releases its lease before the next one acquires it,
+ * so DSCI and DSC are deleted and created again for every class. The lease is deliberately not kept until the end
+ * of the test plan, because the operator reconciling the resources is removed as soon as no test class holds it,
+ * see {@link SharedInstallManager}, and a resource left behind would outlive it, including its finalizers.
+ */
+public final class ResourceLeaseManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceLeaseManager.class);
+
+    public static final String SPEC_HASH_ANNOTATION = "odh-e2e.io/spec-hash";
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private static ResourceLeaseManager instance;
+
+    private final KubernetesClient client;
+    private final long timeout;
+    private final Map<SlotKey, Slot> slots = new ConcurrentHashMap<>();
+
+    public ResourceLeaseManager(KubernetesClient client, long timeout) {
+        this.client = client;
+        this.timeout = timeout;
+    }
+
+    public static synchronized ResourceLeaseManager getInstance() {
+        if (instance == null) {
+            instance = new ResourceLeaseManager(KubeResourceManager.getKubeClient().getClient(), TestConstants.GLOBAL_TIMEOUT);
+        }
+        return instance;
+    }
+
+    /**
+     * Acquires lease of the resource and registers its release into the current test context,
+     * so the lease is released together with other resources created in the context
+     *
+     * @param type resource type used for create, update, delete and readiness check
+     * @param desired desired state of the resource
+     * @return ready leased resource, its name may differ from the desired one when an existing resource was adopted
+     */
+    public <T extends HasMetadata> T acquireForContext(ResourceType<T> type, T desired) {
+        Lease<T> lease = acquire(type, desired);
+        KubeResourceManager.getInstance().pushToStack(new ResourceItem<>(lease::release));
+        return lease.getResource();
+    }
+
+    /**
+     * Acquires lease of the resource. Blocks while the resource is leased with a different spec.
+     * The lock of the slot is only held while its state changes. Creation, readiness check and deletion run
+     * without it, holders with the same spec wait for the readiness of the shared resource on its future.
+     *
+     * @param type resource type used for create, update, delete and readiness check
+     * @param desired desired state of the resource
+     * @return lease holding ready resource
+     */
+    public <T extends HasMetadata> Lease<T> acquire(ResourceType<T> type, T desired) {
+        String hash = specHash(desired);
+        Slot slot = slots.computeIfAbsent(new SlotKey(desired.getKind(), desired.getMetadata().getNamespace()), k -> new Slot());
+        long deadline = System.currentTimeMillis() + timeout;
+
+        while (true) {
+            CompletableFuture<HasMetadata> ready = null;
+            CompletableFuture<Void> free;
+            boolean owner = false;
+            synchronized (slot) {
+                free = slot.free;
+                if (slot.holders > 0 && hash.equals(slot.hash)) {
+                    ready = slot.ready;
+                    slot.holders++;
+                    LOGGER.info("Sharing {} with {} other holder(s)", desired.getKind(), slot.holders - 1);
+                } else if (slot.holders == 0 && free.isDone()) {
+                    ready = new CompletableFuture<>();
+                    slot.ready = ready;
+                    slot.free = new CompletableFuture<>();
+                    slot.hash = hash;
+                    slot.holders = 1;
+                    owner = true;
+                } else {
+                    LOGGER.info("{} is leased with different spec by {} holder(s), waiting for release", desired.getKind(), slot.holders);
+                }
+            }
+
+            if (ready == null) {
+                // the slot is leased with a different spec or its resource is being deleted
+                awaitUntil(free, deadline, String.format("lease of %s with different spec", desired.getKind()));
+                continue;
+            }
+            if (owner) {
+                try {
+                    ready.complete(reconcile(type, desired, hash));
+                } catch (RuntimeException | Error e) {
+                    ready.completeExceptionally(e);
+                }
+            }
+            try {
+                @SuppressWarnings("unchecked")
+                T resource = (T) awaitUntil(ready, deadline, String.format("readiness of leased %s", desired.getKind()));
+                return new Lease<>(this, type, slot, resource);
+            } catch (RuntimeException | Error e) {
+                abandon(slot);
+                throw e;
+            }
+        }
+    }
+
+    private <V> V awaitUntil(CompletableFuture<V> future, long deadline, String description) {
+        try {
+            return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new WaitException(String.format("Timeout after %d ms waiting for %s", timeout, description));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Drops holder whose resource did not become ready, the resource is left on the cluster as is
+     */
+    private void abandon(Slot slot) {
+        CompletableFuture<Void> free;
+        synchronized (slot) {
+            slot.holders--;
+            if (slot.holders > 0) {
+                return;
+            }
+            slot.hash = null;
+            free = slot.free;
+        }
+        free.complete(null);
+    }
+
+    private <T extends HasMetadata> T reconcile(ResourceType<T> type, T desired, String hash) {
+        T existing = findExisting(desired);
+        // the caller's object is left untouched, name and annotations are set on a copy
+        T current = client.getKubernetesSerialization().clone(desired);
+        Map<String, String> annotations = current.getMetadata().getAnnotations() == null
+                ? new HashMap<>() : new HashMap<>(current.getMetadata().getAnnotations());
+        annotations.put(SPEC_HASH_ANNOTATION, hash);
+        current.getMetadata().setAnnotations(annotations);
+
+        if (existing == null) {
+            LOGGER.info("Creating {}/{}", current.getKind(), current.getMetadata().getName());
+            type.create(current);
+        } else if (existing.getMetadata().getAnnotations() != null
+                && hash.equals(existing.getMetadata().getAnnotations().get(SPEC_HASH_ANNOTATION))) {
+            LOGGER.info("Reusing existing {}/{} with matching spec", existing.getKind(), existing.getMetadata().getName());
+            current = existing;
+        } else {
+            LOGGER.info("Updating existing {}/{} to desired spec", existing.getKind(), existing.getMetadata().getName());
+            current.getMetadata().setName(existing.getMetadata().getName());
+            current.getMetadata().setResourceVersion(null);
+            type.update(current);
+        }
+
+        // readiness checks of the resource types wait on their own, with their own timeout
+        if (!type.isReady(current)) {
+            throw new WaitException(String.format("%s/%s is not ready", current.getKind(), current.getMetadata().getName()));
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends HasMetadata> T findExisting(T desired) {
+        Class<T> resourceClass = (Class<T>) desired.getClass();
+        String namespace = desired.getMetadata().getNamespace();
+        KubernetesResourceList<T> list = namespace == null
+                ? client.resources(resourceClass).list()
+                : client.resources(resourceClass).inNamespace(namespace).list();
+        List<T> items = list.getItems();
+        if (items.size() > 1) {
+            LOGGER.warn("Found {} instances of {}, adopting {}", items.size(), desired.getKind(), items.get(0).getMetadata().getName());
+        }
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    private <T extends HasMetadata> void release(ResourceType<T> type, Slot slot, T resource) {
+        CompletableFuture<Void> free;
+        synchronized (slot) {
+            slot.holders--;
+            if (slot.holders > 0) {
+                LOGGER.info("Released lease of {}/{}, holders: {}", resource.getKind(), resource.getMetadata().getName(), slot.holders);
+                return;
+            }
+            // new holders wait for the deletion, even those with the same spec
+            slot.hash = null;
+            free = slot.free;
+        }
+        try {
+            LOGGER.info("Last lease of {}/{} released, deleting it", resource.getKind(), resource.getMetadata().getName());
+            type.delete(resource);
+            BackoffWait.until(String.format("deletion of %s/%s", resource.getKind(), resource.getMetadata().getName()),
+                    TestConstants.GLOBAL_POLL_INTERVAL_SHORT, timeout, () -> type.isDeleted(resource));
+        } finally {
+            free.complete(null);
+        }
+    }
+
+    /**
+     * Computes hash of the resource without its metadata and status
+     *
+     * @param resource resource
+     * @return hex encoded SHA-256 hash
+     */
+    public static String specHash(HasMetadata resource) {
+        try {
+            ObjectNode node = (ObjectNode) CANONICAL_MAPPER.readTree(Serialization.asJson(resource));
+            node.remove("metadata");
+            node.remove("status");
+            String canonical = CANONICAL_MAPPER.writeValueAsString(CANONICAL_MAPPER.treeToValue(node, Object.class));
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Lease of a ready resource, must be released exactly once
+     *
+     * @param <T> resource class
+     */
+    public static final class Lease<T extends HasMetadata> {
+        private final ResourceLeaseManager manager;
+        private final ResourceType<T> type;
+        private final Slot slot;
+        private final T resource;
+        private boolean released;
+
+        private Lease(ResourceLeaseManager manager, ResourceType<T> type, Slot slot, T resource) {
+            this.manager = manager;
+            this.type = type;
+            this.slot = slot;
+            this.resource = resource;
+        }
+
+        public T getResource() {
+            return resource;
+        }
+
+        public synchronized void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            manager.release(type, slot, resource);
+        }
+    }
+
+    private record SlotKey(String kind, String namespace) {
+    }
+
+    private static final class Slot {
+        private int holders;
+        private String hash;
+        // readiness of the resource of the current holders
+        private CompletableFuture<HasMetadata> ready;
+        // completed once the last holder is gone and the resource is deleted
+        private CompletableFuture<Void> free = CompletableFuture.completedFuture(null);
+    }
+}
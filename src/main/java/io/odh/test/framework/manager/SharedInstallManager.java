@@ -0,0 +1,99 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.manager;
+
+import io.skodjob.testframe.resources.KubeResourceManager;
+import io.skodjob.testframe.resources.ResourceItem;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reference counted installs of cluster wide components like the operator and its dependencies, shared by test
+ * classes running in parallel. Every class holds the installs from its setup until all resources it created are
+ * deleted. Components are installed by the first holder, resources created by the install are registered to the root
+ * test context instead of the class context, and they are deleted when the last holder is gone, so no class removes
+ * the operator, its CRDs or the default DSCI while another class still uses them.
+ * <p>
+ * As with {@link ResourceLeaseManager}, sharing only happens between classes running in parallel. Classes running
+ * sequentially install and remove the components one after another.
+ */
+public final class SharedInstallManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedInstallManager.class);
+
+    private static SharedInstallManager instance;
+
+    private final Set<String> installed = new HashSet<>();
+    private int holders;
+    // context the shared resources are registered to, same for all holders
+    private ExtensionContext rootContext;
+
+    public static synchronized SharedInstallManager getInstance() {
+        if (instance == null) {
+            instance = new SharedInstallManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers the current test context as holder of the shared installs. The release is pushed to the stack
+     * of the context, so it should be acquired before anything else is created in the context.
+     */
+    public synchronized void acquireForContext() {
+        rootContext = KubeResourceManager.getTestContext().getRoot();
+        holders++;
+        LOGGER.info("Shared installs acquired, holders: {}", holders);
+        KubeResourceManager.getInstance().pushToStack(new ResourceItem<>(this::release));
+    }
+
+    /**
+     * Installs the component unless it is already installed for the current holders. Installs are serialized,
+     * a class which starts while another one installs waits for it and reuses the component.
+     *
+     * @param name name of the component
+     * @param install creates the component and waits for its readiness, resources it creates through
+     *                {@link KubeResourceManager} are deleted when the last holder is gone
+     */
+    public synchronized void install(String name, Runnable install) {
+        if (holders == 0) {
+            throw new IllegalStateException("Shared installs are not acquired by the current test context");
+        }
+        if (installed.contains(name)) {
+            LOGGER.info("{} is already installed by another test class", name);
+            return;
+        }
+        ExtensionContext testContext = KubeResourceManager.getTestContext();
+        KubeResourceManager.setTestContext(rootContext);
+        try {
+            install.run();
+            installed.add(name);
+        } finally {
+            KubeResourceManager.setTestContext(testContext);
+        }
+    }
+
+    private synchronized void release() {
+        holders--;
+        if (holders > 0) {
+            LOGGER.info("Shared installs released, holders: {}", holders);
+            return;
+        }
+        LOGGER.info("Last holder of shared installs {} released, deleting them", installed);
+        // a class starting in the meantime waits until the components are deleted and installs them again.
+        // The release runs on a pool thread of the resource manager, the context of the thread is restored for its next task.
+        ExtensionContext testContext = KubeResourceManager.getTestContext();
+        KubeResourceManager.setTestContext(rootContext);
+        try {
+            KubeResourceManager.getInstance().deleteResources();
+        } finally {
+            installed.clear();
+            KubeResourceManager.setTestContext(testContext);
+        }
+    }
+}
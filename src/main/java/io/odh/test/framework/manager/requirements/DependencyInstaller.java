@@ -0,0 +1,84 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.manager.requirements;
+
+import io.skodjob.testframe.resources.KubeResourceManager;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Installs operator dependencies concurrently. Every dependency starts as soon as all dependencies it was
+ * declared after are installed, so the total install time is the longest chain instead of the sum of all installs.
+ * Resources created by the dependencies are registered to the test context of the calling thread.
+ */
+public class DependencyInstaller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DependencyInstaller.class);
+
+    private final Map<String, Dependency> dependencies = new LinkedHashMap<>();
+
+    private record Dependency(String name, Runnable deploy, List<String> after) {
+    }
+
+    /**
+     * Adds dependency to install
+     *
+     * @param name name of the dependency
+     * @param deploy deploys the dependency and waits for its readiness
+     * @param after names of already added dependencies which have to be installed first
+     * @return this installer
+     */
+    public DependencyInstaller add(String name, Runnable deploy, String... after) {
+        for (String dependency : after) {
+            if (!dependencies.containsKey(dependency)) {
+                throw new IllegalArgumentException("Dependency " + name + " must be added after " + dependency);
+            }
+        }
+        dependencies.put(name, new Dependency(name, deploy, Arrays.asList(after)));
+        return this;
+    }
+
+    /**
+     * Installs all added dependencies and waits for them. The first failure is rethrown after all already started
+     * installs finish.
+     */
+    public void install() {
+        ExtensionContext testContext = KubeResourceManager.getTestContext();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, dependencies.size()));
+        Map<String, CompletableFuture<Void>> installs = new LinkedHashMap<>();
+        try {
+            for (Dependency dependency : dependencies.values()) {
+                CompletableFuture<?>[] prerequisites = dependency.after().stream().map(installs::get).toArray(CompletableFuture[]::new);
+                installs.put(dependency.name(), CompletableFuture.allOf(prerequisites).thenRunAsync(() -> {
+                    KubeResourceManager.setTestContext(testContext);
+                    LOGGER.info("Installing dependency {}", dependency.name());
+                    dependency.deploy().run();
+                    LOGGER.info("Dependency {} is installed", dependency.name());
+                }, executor));
+            }
+            CompletableFuture.allOf(installs.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -10,10 +10,11 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.odh.test.TestConstants;
 import io.odh.test.TestUtils;
+import io.odh.test.framework.informers.ReadinessEngine;
+import io.odh.test.framework.informers.ResourceCache;
 import io.opendatahub.dscinitialization.v1.DSCInitialization;
 import io.skodjob.testframe.interfaces.ResourceType;
 import io.skodjob.testframe.resources.KubeResourceManager;
-import io.skodjob.testframe.wait.Wait;
 
 import java.util.function.Consumer;
 
@@ -30,7 +31,7 @@ public class DataScienceInitializationType implements ResourceType<DSCInitializa
     }
 
     public DSCInitialization get(String name) {
-        return dsciClient().withName(name).get();
+        return ResourceCache.getInstance().get(DSCInitialization.class, null, name);
     }
 
     @Override
@@ -62,16 +63,13 @@ public class DataScienceInitializationType implements ResourceType<DSCInitializa
     @Override
     public boolean isReady(DSCInitialization resource) {
         String message = String.format("DSCInitialization %s readiness", resource.getMetadata().getName());
-        Wait.until(message, TestConstants.GLOBAL_POLL_INTERVAL_SHORT, TestConstants.GLOBAL_TIMEOUT, () -> {
+        ReadinessEngine.getInstance().waitFor(message, DSCInitialization.class, null, resource.getMetadata().getName(), dsci -> {
             boolean dsciReady;
 
-            DSCInitialization dsci = dsciClient().withName(resource.getMetadata().getName()).get();
-
             dsciReady = dsci.getStatus().getPhase().equals("Ready");
 
             return dsciReady;
-        }, () -> {
-        });
+        }, TestConstants.GLOBAL_TIMEOUT);
         return true;
     }
 
@@ -10,10 +10,11 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.kserve.serving.v1beta1.InferenceService;
 import io.odh.test.TestConstants;
 import io.odh.test.TestUtils;
+import io.odh.test.framework.informers.ReadinessEngine;
+import io.odh.test.framework.informers.ResourceCache;
 import io.skodjob.testframe.interfaces.ResourceType;
 import io.skodjob.testframe.resources.KubeResourceManager;
 import io.skodjob.testframe.utils.PodUtils;
-import io.skodjob.testframe.wait.Wait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +30,7 @@ public class InferenceServiceType implements ResourceType<InferenceService> {
     }
 
     public InferenceService get(String namespace, String name) {
-        return inferenceServiceClient().inNamespace(namespace).withName(name).get();
+        return ResourceCache.getInstance().get(InferenceService.class, namespace, name);
     }
 
     @Override
@@ -59,11 +60,9 @@ public class InferenceServiceType implements ResourceType<InferenceService> {
     @Override
     public boolean isReady(InferenceService resource) {
         String message = String.format("InferenceService %s readiness", resource.getMetadata().getName());
-        Wait.until(message, TestConstants.GLOBAL_POLL_INTERVAL_SHORT, TestConstants.GLOBAL_TIMEOUT, () -> {
+        ReadinessEngine.getInstance().waitFor(message, InferenceService.class, resource.getMetadata().getNamespace(), resource.getMetadata().getName(), inferenceService -> {
             boolean isReady;
 
-            InferenceService inferenceService = get(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
-
             String predictorReadyStatus = TestUtils.getInferenceServiceConditionByType(inferenceService.getStatus().getConditions(), "PredictorReady").getStatus();
             LOGGER.debug("InferenceService {} PredictorReady status: {}", resource.getMetadata().getName(), predictorReadyStatus);
             isReady = predictorReadyStatus.equals("True");
@@ -73,8 +72,7 @@ public class InferenceServiceType implements ResourceType<InferenceService> {
             isReady = isReady && readyStatus.equals("True");
 
             return isReady;
-        }, () -> {
-        });
+        }, TestConstants.GLOBAL_TIMEOUT);
 
         String namespace = resource.getMetadata().getNamespace();
         LOGGER.info("Waiting for pods readiness in {}", namespace);
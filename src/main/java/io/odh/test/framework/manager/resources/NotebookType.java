@@ -11,6 +11,7 @@ import io.fabric8.openshift.client.OpenShiftClient;
 import io.odh.test.Environment;
 import io.odh.test.OdhConstants;
 import io.odh.test.TestUtils;
+import io.odh.test.framework.informers.ResourceCache;
 import io.skodjob.testframe.interfaces.ResourceType;
 import io.skodjob.testframe.resources.KubeResourceManager;
 import org.kubeflow.v1.Notebook;
@@ -49,7 +50,7 @@ public class NotebookType implements ResourceType<Notebook> {
     }
 
     public Notebook get(String namespace, String name) {
-        return notebookClient().inNamespace(namespace).withName(name).get();
+        return ResourceCache.getInstance().get(Notebook.class, namespace, name);
     }
 
     @Override
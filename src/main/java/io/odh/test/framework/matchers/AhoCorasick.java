@@ -0,0 +1,165 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.matchers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton for finding many literals in a single pass over the text.
+ * Every literal is assigned a category bit and {@link #scan(CharSequence, int)} returns bits of all categories
+ * whose literals occur in the text, so the cost of a scan depends on text length only, not on the number of literals.
+ * The automaton is compiled into a dense transition table over the alphabet of the literals and is immutable,
+ * so one instance can be shared by concurrent scans.
+ */
+public final class AhoCorasick {
+
+    private final boolean ignoreCase;
+    // maps char to column of the transition table, 0 stands for chars which are not part of any literal
+    private final char[] alphabet;
+    private final int columns;
+    private final int[] transitions;
+    private final int[] output;
+
+    private AhoCorasick(boolean ignoreCase, char[] alphabet, int columns, int[] transitions, int[] output) {
+        this.ignoreCase = ignoreCase;
+        this.alphabet = alphabet;
+        this.columns = columns;
+        this.transitions = transitions;
+        this.output = output;
+    }
+
+    public static Builder builder(boolean ignoreCase) {
+        return new Builder(ignoreCase);
+    }
+
+    /**
+     * Finds categories of literals present in the text
+     *
+     * @param text scanned text
+     * @param stopMask scan stops as soon as any of these categories is found
+     * @return bitwise or of categories of all found literals
+     */
+    public int scan(CharSequence text, int stopMask) {
+        int found = 0;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (ignoreCase) {
+                c = Character.toLowerCase(c);
+            }
+            state = transitions[state * columns + alphabet[c]];
+            found |= output[state];
+            if ((found & stopMask) != 0) {
+                return found;
+            }
+        }
+        return found;
+    }
+
+    public static final class Builder {
+        private final boolean ignoreCase;
+        private final List<String> literals = new ArrayList<>();
+        private final List<Integer> categories = new ArrayList<>();
+
+        private Builder(boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+        }
+
+        /**
+         * Adds literal to the automaton
+         *
+         * @param literal non-empty literal
+         * @param category category bit reported when the literal is found
+         * @return this builder
+         */
+        public Builder add(String literal, int category) {
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("Literal must not be empty");
+            }
+            literals.add(ignoreCase ? lowerCase(literal) : literal);
+            categories.add(category);
+            return this;
+        }
+
+        public AhoCorasick build() {
+            char[] alphabet = new char[Character.MAX_VALUE + 1];
+            int columns = 1;
+            for (String literal : literals) {
+                for (char c : literal.toCharArray()) {
+                    if (alphabet[c] == 0) {
+                        alphabet[c] = (char) columns++;
+                    }
+                }
+            }
+
+            // trie
+            List<int[]> gotoTable = new ArrayList<>();
+            List<Integer> outputs = new ArrayList<>();
+            gotoTable.add(newRow(columns));
+            outputs.add(0);
+            for (int i = 0; i < literals.size(); i++) {
+                int state = 0;
+                for (char c : literals.get(i).toCharArray()) {
+                    int column = alphabet[c];
+                    if (gotoTable.get(state)[column] < 0) {
+                        gotoTable.get(state)[column] = gotoTable.size();
+                        gotoTable.add(newRow(columns));
+                        outputs.add(0);
+                    }
+                    state = gotoTable.get(state)[column];
+                }
+                outputs.set(state, outputs.get(state) | categories.get(i));
+            }
+
+            // failure links resolved breadth first directly into a dense transition table
+            int states = gotoTable.size();
+            int[] transitions = new int[states * columns];
+            int[] output = new int[states];
+            int[] failure = new int[states];
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int column = 0; column < columns; column++) {
+                int next = gotoTable.get(0)[column];
+                if (next > 0) {
+                    transitions[column] = next;
+                    queue.add(next);
+                }
+            }
+            output[0] = outputs.get(0);
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                output[state] = outputs.get(state) | output[failure[state]];
+                for (int column = 0; column < columns; column++) {
+                    int next = gotoTable.get(state)[column];
+                    if (next > 0) {
+                        failure[next] = transitions[failure[state] * columns + column];
+                        transitions[state * columns + column] = next;
+                        queue.add(next);
+                    } else {
+                        transitions[state * columns + column] = transitions[failure[state] * columns + column];
+                    }
+                }
+            }
+            return new AhoCorasick(ignoreCase, alphabet, columns, transitions, output);
+        }
+
+        private static int[] newRow(int columns) {
+            int[] row = new int[columns];
+            Arrays.fill(row, -1);
+            return row;
+        }
+
+        private static String lowerCase(String literal) {
+            char[] chars = literal.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            return new String(chars);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.matchers;
+
+import io.odh.test.Environment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Errors which are expected in operator logs and should not fail the log checks. Every entry is a regular expression.
+ * Entries without regex constructs are matched as plain literals by an {@link AhoCorasick} automaton, the rest are
+ * combined into a single alternation, so the matching cost does not grow with the number of entries.
+ * Additional entries can be loaded from a file set by the LOG_IGNORE_LIST_FILE environment variable,
+ * one entry per line, empty lines and lines starting with # are skipped.
+ */
+public final class LogIgnoreList {
+
+    private static final String REGEX_METACHARACTERS = ".[]{}()*+?^$|";
+
+    static final List<String> DEFAULT_ENTRIES = List.of(
+        // This should be removed when https://issues.redhat.com/browse/RHOAIENG-1742 will be done
+        "servicemeshcontrolplanes\\.maistra\\.io\" not found",
+        "MatchExpressions:\\[\\]v1\\.LabelSelectorRequirement\\(nil\\)"
+    );
+
+    private final List<String> literals;
+    private final Pattern regex;
+
+    private LogIgnoreList(List<String> literals, Pattern regex) {
+        this.literals = literals;
+        this.regex = regex;
+    }
+
+    /**
+     * Creates ignore list from given entries
+     *
+     * @param entries regular expressions of ignored errors
+     * @return ignore list
+     */
+    public static LogIgnoreList of(Collection<String> entries) {
+        List<String> literals = new ArrayList<>();
+        List<String> regexes = new ArrayList<>();
+        for (String entry : entries) {
+            String literal = toLiteral(entry);
+            if (literal == null) {
+                // validate every entry on its own so errors point to the wrong entry
+                Pattern.compile(entry);
+                regexes.add(entry);
+            } else if (!literal.isEmpty()) {
+                literals.add(literal);
+            }
+        }
+        Pattern regex = regexes.isEmpty() ? null
+                : Pattern.compile(regexes.stream().map(r -> "(?:" + r + ")").collect(Collectors.joining("|")));
+        return new LogIgnoreList(List.copyOf(literals), regex);
+    }
+
+    public static LogIgnoreList defaults() {
+        return of(DEFAULT_ENTRIES);
+    }
+
+    /**
+     * Creates ignore list from default entries and entries in the file
+     *
+     * @param file file with one entry per line
+     * @return ignore list
+     */
+    public static LogIgnoreList fromFile(Path file) {
+        try {
+            List<String> entries = new ArrayList<>(DEFAULT_ENTRIES);
+            Files.readAllLines(file).stream()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .forEach(entries::add);
+            return of(entries);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates ignore list configured by the environment
+     *
+     * @return ignore list with default entries and entries from LOG_IGNORE_LIST_FILE if it is set
+     */
+    public static LogIgnoreList fromEnvironment() {
+        return Environment.LOG_IGNORE_LIST_FILE == null ? defaults() : fromFile(Path.of(Environment.LOG_IGNORE_LIST_FILE));
+    }
+
+    public List<String> getLiterals() {
+        return literals;
+    }
+
+    /**
+     * @return alternation of all entries which are not plain literals, null if there are none
+     */
+    public Pattern getRegex() {
+        return regex;
+    }
+
+    /**
+     * Returns literal matched by the regular expression, if the expression matches just one literal
+     *
+     * @param regex regular expression
+     * @return unescaped literal or null when the expression contains regex constructs
+     */
+    static String toLiteral(String regex) {
+        StringBuilder literal = new StringBuilder(regex.length());
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    return null;
+                }
+                literal.append(regex.charAt(++i));
+            } else if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                return null;
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.matchers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming scanner of operator logs. The log is read line by line and split into entries starting with
+ * a timestamp, entries spanning multiple lines (e.g. stack traces) are evaluated as a whole, but only a few
+ * flags and the first line of the current entry are kept in memory, so memory usage does not depend on log size.
+ * Log levels, error keywords and literal ignore list entries are detected by {@link AhoCorasick} automata
+ * in one pass over each line, regex ignore list entries are checked by one combined pattern.
+ */
+public final class LogScanner {
+
+    // Matches start of the log entry which contains date in format yyyy-mm-ddThh:mm:ssZ
+    private static final Pattern ENTRY_START = Pattern.compile("[0-9]{4}-[0-9]{2}-[0-9]{2}T[0-9]{2}:[0-9]{2}:[0-9]{2}Z");
+
+    private static final int MAX_REPORTED_LENGTH = 4096;
+
+    private static final int NON_ERROR_LEVEL = 1;
+    private static final int NULL_POINTER = 1 << 1;
+    private static final int ERROR_KEYWORD = 1 << 2;
+    private static final int IGNORED = 1 << 3;
+
+    private static final AhoCorasick ERROR_KEYWORDS = AhoCorasick.builder(true)
+            .add("error", ERROR_KEYWORD)
+            .add("exception", ERROR_KEYWORD)
+            .build();
+
+    private final AhoCorasick literals;
+    private final Pattern ignoredRegex;
+
+    public LogScanner(LogIgnoreList ignoreList) {
+        AhoCorasick.Builder builder = AhoCorasick.builder(false)
+                .add("DEBUG", NON_ERROR_LEVEL)
+                .add("WARN", NON_ERROR_LEVEL)
+                .add("INFO", NON_ERROR_LEVEL)
+                .add("NullPointer", NULL_POINTER);
+        ignoreList.getLiterals().forEach(literal -> builder.add(literal, IGNORED));
+        this.literals = builder.build();
+        this.ignoredRegex = ignoreList.getRegex();
+    }
+
+    /**
+     * Reads the whole log and returns unexpected errors found in it
+     *
+     * @param log log reader, it is not closed by this method
+     * @param limit maximal number of returned errors, scanning stops once the limit is reached
+     * @return first line of every log entry with unexpected error
+     */
+    public List<String> findUnexpectedErrors(Reader log, int limit) {
+        List<String> errors = new ArrayList<>();
+        Entry entry = new Entry();
+        BufferedReader reader = log instanceof BufferedReader ? (BufferedReader) log : new BufferedReader(log);
+        try {
+            String line;
+            while (errors.size() < limit && (line = reader.readLine()) != null) {
+                if (line.contains("Unhandled Exception")) {
+                    errors.add(truncate(line));
+                    break;
+                }
+                Matcher m = ENTRY_START.matcher(line);
+                int segmentStart = 0;
+                while (m.find()) {
+                    entry.append(line.substring(segmentStart, m.start()));
+                    entry.finish(errors);
+                    segmentStart = m.end();
+                }
+                entry.append(line.substring(segmentStart));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        if (errors.size() < limit) {
+            entry.finish(errors);
+        }
+        return errors.size() > limit ? errors.subList(0, limit) : errors;
+    }
+
+    private static String truncate(String text) {
+        return text.length() > MAX_REPORTED_LENGTH ? text.substring(0, MAX_REPORTED_LENGTH) : text;
+    }
+
+    private final class Entry {
+        private String firstSegment;
+        private boolean nonError;
+        private int flags;
+
+        void append(String segment) {
+            if (segment.isEmpty()) {
+                return;
+            }
+            if (firstSegment == null) {
+                firstSegment = truncate(segment);
+            }
+            if (nonError) {
+                return;
+            }
+            int found = literals.scan(segment, NON_ERROR_LEVEL);
+            if ((found & NON_ERROR_LEVEL) != 0) {
+                nonError = true;
+                return;
+            }
+            flags |= found;
+            if ((flags & ERROR_KEYWORD) == 0) {
+                flags |= ERROR_KEYWORDS.scan(segment, ERROR_KEYWORD);
+            }
+            if ((flags & IGNORED) == 0 && ignoredRegex != null && ignoredRegex.matcher(segment).find()) {
+                flags |= IGNORED;
+            }
+        }
+
+        void finish(List<String> errors) {
+            boolean unexpected = (flags & NULL_POINTER) != 0 || (flags & ERROR_KEYWORD) != 0 && (flags & IGNORED) == 0;
+            if (firstSegment != null && !nonError && unexpected) {
+                errors.add(firstSegment);
+            }
+            firstSegment = null;
+            nonError = false;
+            flags = 0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.matchers;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * A LogStreamHasNoUnexpectedErrors is the streaming variant of {@link LogHasNoUnexpectedErrors}.
+ * The log is consumed line by line from the reader, so it never has to fit into memory.
+ */
+public class LogStreamHasNoUnexpectedErrors extends BaseMatcher<Reader> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogStreamHasNoUnexpectedErrors.class);
+
+    private List<String> errors = List.of();
+
+    @Override
+    public boolean matches(Object actualValue) {
+        errors = LogHasNoUnexpectedErrors.SCANNER.findUnexpectedErrors((Reader) actualValue, 1);
+        errors.forEach(LOGGER::error);
+        return errors.isEmpty();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("The log should not contain unexpected errors.");
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        description.appendText("found unexpected error ").appendValueList("", ", ", "", errors);
+    }
+}
@@ -6,6 +6,8 @@ package io.odh.test.framework.matchers;
 
 import org.hamcrest.Matcher;
 
+import java.io.Reader;
+
 public class Matchers {
 
     private Matchers() {
@@ -18,4 +20,12 @@ public class Matchers {
     public static Matcher<String> logHasNoUnexpectedErrors() {
         return new LogHasNoUnexpectedErrors();
     }
+
+    /**
+     * A matcher checks that log read from the stream doesn't have unexpected errors
+     * @return The matcher.
+     */
+    public static Matcher<Reader> logStreamHasNoUnexpectedErrors() {
+        return new LogStreamHasNoUnexpectedErrors();
+    }
 }
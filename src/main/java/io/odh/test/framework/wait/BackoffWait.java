@@ -0,0 +1,125 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.framework.wait;
+
+import io.skodjob.testframe.wait.WaitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Polling with exponential backoff. The first check is repeated after {@link #INITIAL_POLL_INTERVAL}, every next
+ * interval is doubled up to the poll interval given by the caller and randomized by {@link #JITTER} so that
+ * concurrent waits do not hit the API server in lockstep.
+ * Methods {@link #until(String, long, long, BooleanSupplier)} and
+ * {@link #until(String, long, long, BooleanSupplier, Runnable)} are drop-in replacements of
+ * {@link io.skodjob.testframe.wait.Wait} methods with the same signature.
+ */
+public final class BackoffWait {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackoffWait.class);
+
+    public static final long INITIAL_POLL_INTERVAL = 100;
+    public static final double JITTER = 0.2;
+
+    private BackoffWait() { }
+
+    /**
+     * Statistics of a finished wait
+     *
+     * @param description description of the wait
+     * @param attempts number of evaluations of the condition
+     * @param timeToSuccess time in milliseconds until the condition was fulfilled
+     */
+    public record Statistics(String description, int attempts, long timeToSuccess) {
+    }
+
+    /**
+     * Wait until the condition is fulfilled
+     *
+     * @param description description of the wait
+     * @param pollInterval maximal interval between two checks in milliseconds
+     * @param timeout timeout in milliseconds
+     * @param ready condition, exceptions are logged and count as not fulfilled
+     */
+    public static void until(String description, long pollInterval, long timeout, BooleanSupplier ready) {
+        until(description, pollInterval, timeout, ready, () -> { });
+    }
+
+    /**
+     * Wait until the condition is fulfilled
+     *
+     * @param description description of the wait
+     * @param pollInterval maximal interval between two checks in milliseconds
+     * @param timeout timeout in milliseconds
+     * @param ready condition, exceptions are logged and count as not fulfilled
+     * @param onTimeout action executed before the timeout exception is thrown
+     */
+    public static void until(String description, long pollInterval, long timeout, BooleanSupplier ready, Runnable onTimeout) {
+        poll(description, INITIAL_POLL_INTERVAL, pollInterval, timeout, ready, onTimeout);
+    }
+
+    /**
+     * Wait until the condition is fulfilled and return statistics of the wait
+     *
+     * @param description description of the wait
+     * @param initialPollInterval interval after the first check in milliseconds
+     * @param maxPollInterval maximal interval between two checks in milliseconds
+     * @param timeout timeout in milliseconds
+     * @param ready condition, exceptions are logged and count as not fulfilled
+     * @param onTimeout action executed before the timeout exception is thrown
+     * @return statistics of the wait
+     */
+    public static Statistics poll(String description, long initialPollInterval, long maxPollInterval, long timeout,
+                                  BooleanSupplier ready, Runnable onTimeout) {
+        LOGGER.info("Waiting for: {}", description);
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + timeout;
+        long interval = Math.min(initialPollInterval, maxPollInterval);
+        int attempts = 0;
+        String lastExceptionMessage = null;
+
+        while (true) {
+            attempts++;
+            boolean result;
+            try {
+                result = ready.getAsBoolean();
+            } catch (Exception e) {
+                if (!e.toString().equals(lastExceptionMessage)) {
+                    LOGGER.info("While waiting for: {} exception occurred: {}", description, e.getMessage());
+                    lastExceptionMessage = e.toString();
+                }
+                result = false;
+            }
+
+            long now = System.currentTimeMillis();
+            if (result) {
+                Statistics statistics = new Statistics(description, attempts, now - startTime);
+                LOGGER.debug("{} fulfilled after {} attempts in {} ms", description, attempts, statistics.timeToSuccess());
+                return statistics;
+            }
+            if (now >= deadline) {
+                LOGGER.error("Exception waiting for: {}, {} attempts", description, attempts);
+                onTimeout.run();
+                throw new WaitException("Timeout after " + timeout + " ms waiting for " + description);
+            }
+
+            try {
+                Thread.sleep(Math.min(jitter(interval), deadline - now));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            interval = Math.min(interval * 2, maxPollInterval);
+        }
+    }
+
+    private static long jitter(long interval) {
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Math.max(1, (long) (interval * factor));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform;
+
+import io.odh.test.platform.InferenceClient.InferenceResponse;
+import io.odh.test.platform.InferenceClient.Tensor;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client-side micro-batching of inference requests. Samples submitted by independent callers are collected until
+ * the batch is full or the oldest sample waited for the maximal delay, then they are sent as one batched request
+ * with {@link InferenceClient#inferBatchAsync} and the outputs are handed back to the callers' futures.
+ * Sizes of the sent batches are recorded, so the load reports how well the model server copes with batched traffic.
+ */
+public class InferenceBatcher implements AutoCloseable {
+
+    private final InferenceClient client;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inference-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Histogram batchSizes = new ConcurrentHistogram(3);
+    private final AtomicLong samples = new AtomicLong();
+
+    // guarded by this
+    private List<Sample> pending = new ArrayList<>();
+    private long generation;
+    private boolean closed;
+
+    /**
+     * @param client client of the model
+     * @param maxBatchSize number of samples which are sent right away as one request
+     * @param maxDelay maximal time the first sample of a batch waits for more samples
+     */
+    public InferenceBatcher(InferenceClient client, int maxBatchSize, Duration maxDelay) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + maxBatchSize);
+        }
+        this.client = client;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Adds sample to the current batch
+     *
+     * @param inputs input tensors of the sample, with batch size in the first dimension
+     * @return future completed with outputs of the sample once its batch is answered
+     */
+    public CompletableFuture<InferenceResponse> submit(List<Tensor> inputs) {
+        Sample sample = new Sample(inputs, new CompletableFuture<>());
+        List<Sample> full = null;
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Inference batcher is closed"));
+            }
+            pending.add(sample);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                long batch = generation;
+                timer.schedule(() -> flush(batch), maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return sample.response;
+    }
+
+    /**
+     * @return sizes of the sent batches
+     */
+    public Histogram getBatchSizes() {
+        return batchSizes.copy();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d samples in %d batches, mean batch size %.2f, max %d (limit %d, delay %s)",
+                samples.get(), batchSizes.getTotalCount(), batchSizes.getMean(), batchSizes.getMaxValue(), maxBatchSize, maxDelay);
+    }
+
+    /**
+     * Sends the pending samples and stops accepting new ones
+     */
+    @Override
+    public void close() {
+        List<Sample> rest;
+        synchronized (this) {
+            closed = true;
+            rest = takePending();
+        }
+        if (!rest.isEmpty()) {
+            send(rest);
+        }
+        timer.shutdownNow();
+    }
+
+    private void flush(long batch) {
+        List<Sample> due;
+        synchronized (this) {
+            // the batch has been sent already when it got full
+            if (batch != generation || pending.isEmpty()) {
+                return;
+            }
+            due = takePending();
+        }
+        send(due);
+    }
+
+    private List<Sample> takePending() {
+        List<Sample> taken = pending;
+        pending = new ArrayList<>();
+        generation++;
+        return taken;
+    }
+
+    private void send(List<Sample> batch) {
+        batchSizes.recordValue(batch.size());
+        samples.addAndGet(batch.size());
+        CompletableFuture<List<InferenceResponse>> batchResponse;
+        try {
+            batchResponse = client.inferBatchAsync(batch.stream().map(Sample::inputs).toList());
+        } catch (RuntimeException e) {
+            batchResponse = CompletableFuture.failedFuture(e);
+        }
+        batchResponse.whenComplete((responses, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            for (int i = 0; i < batch.size(); i++) {
+                if (cause != null) {
+                    batch.get(i).response.completeExceptionally(cause);
+                } else {
+                    batch.get(i).response.complete(responses.get(i));
+                }
+            }
+        });
+    }
+
+    private record Sample(List<Tensor> inputs, CompletableFuture<InferenceResponse> response) {
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.odh.test.TestUtils;
+import io.odh.test.platform.httpClient.ByteBufferBodyPublisher;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_DURATION;
+import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_UNIT;
+
+/**
+ * Client of the KServe v2 inference protocol REST API of a single model.
+ * With the binary data extension, tensors travel as raw little-endian bytes after the JSON header instead of JSON
+ * arrays, so large inputs, e.g. images, are neither formatted nor parsed as decimal numbers. Tensor data is sent
+ * from its buffer without copying. Servers without the extension, e.g. the REST proxy of ModelMesh, need plain JSON.
+ * Responses with other status than 200 fail with {@link AssertionError} carrying the response body.
+ */
+// https://kserve.github.io/website/latest/modelserving/data_plane/v2_protocol/
+// https://github.com/triton-inference-server/server/blob/main/docs/protocol/extension_binary_data.md
+public class InferenceClient {
+    public static final String HEADER_CONTENT_LENGTH = "Inference-Header-Content-Length";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final URI inferUri;
+    private final String oauthToken;
+    private final boolean binaryData;
+
+    /**
+     * @param httpClient client shared by all requests
+     * @param modelUrl url of the model, e.g. {@code https://host/v2/models/mnist}, {@code /infer} is appended
+     * @param oauthToken bearer token, null for none
+     * @param binaryData send and receive tensors with the binary data extension, plain JSON otherwise
+     */
+    public InferenceClient(HttpClient httpClient, String modelUrl, String oauthToken, boolean binaryData) {
+        this.httpClient = httpClient;
+        this.inferUri = URI.create(modelUrl + "/infer");
+        this.oauthToken = oauthToken;
+        this.binaryData = binaryData;
+    }
+
+    public InferenceResponse infer(List<Tensor> inputs) {
+        try {
+            return parse(httpClient.send(buildRequest(inputs), HttpResponse.BodyHandlers.ofByteArray()));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    public CompletableFuture<InferenceResponse> inferAsync(List<Tensor> inputs) {
+        return httpClient.sendAsync(buildRequest(inputs), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::parse);
+    }
+
+    /**
+     * Infers several samples in one request, tensors of the samples are stacked along the first dimension
+     * and the outputs are split back per sample
+     *
+     * @param samples inputs of every sample, in the same order for all samples
+     * @return responses in the order of the samples
+     */
+    public List<InferenceResponse> inferBatch(List<List<Tensor>> samples) {
+        List<long[]> batchSizes = batchSizes(samples);
+        return split(infer(stack(samples)), batchSizes);
+    }
+
+    public CompletableFuture<List<InferenceResponse>> inferBatchAsync(List<List<Tensor>> samples) {
+        List<long[]> batchSizes;
+        List<Tensor> inputs;
+        try {
+            batchSizes = batchSizes(samples);
+            inputs = stack(samples);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return inferAsync(inputs).thenApply(response -> split(response, batchSizes));
+    }
+
+    /**
+     * Reads inputs of a v2 JSON inference request, e.g. a request fixture, so it can be sent with the binary extension
+     *
+     * @param resource classpath resource with the request
+     * @return input tensors of the request
+     */
+    public List<Tensor> readInputs(String resource) {
+        try (InputStream stream = TestUtils.getFileFromResourceAsStream(resource)) {
+            return readTensors(objectMapper.readTree(stream).path("inputs"), null, 0);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private HttpRequest buildRequest(List<Tensor> inputs) {
+        ObjectNode header = objectMapper.createObjectNode();
+        ArrayNode inputNodes = header.putArray("inputs");
+        List<HttpRequest.BodyPublisher> tensors = new ArrayList<>();
+        for (Tensor input : inputs) {
+            ObjectNode inputNode = inputNodes.addObject()
+                    .put("name", input.name())
+                    .put("datatype", input.datatype().name());
+            ArrayNode shape = inputNode.putArray("shape");
+            Arrays.stream(input.shape()).forEach(shape::add);
+            if (binaryData) {
+                inputNode.putObject("parameters").put("binary_data_size", input.data().remaining());
+                tensors.add(new ByteBufferBodyPublisher(input.data()));
+            } else {
+                ArrayNode data = inputNode.putArray("data");
+                ByteBuffer buffer = input.littleEndian();
+                for (int i = 0; i < input.elementCount(); i++) {
+                    input.datatype().write(buffer, i, data);
+                }
+            }
+        }
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(inferUri)
+                .timeout(Duration.of(DEFAULT_TIMEOUT_DURATION, DEFAULT_TIMEOUT_UNIT.toChronoUnit()));
+        if (oauthToken != null) {
+            requestBuilder.header("Authorization", "Bearer " + oauthToken);
+        }
+        if (!binaryData) {
+            return requestBuilder
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(toBytes(header)))
+                    .build();
+        }
+        header.putObject("parameters").put("binary_data_output", true);
+        byte[] json = toBytes(header);
+        tensors.add(0, HttpRequest.BodyPublishers.ofByteArray(json));
+        return requestBuilder
+                .header("Content-Type", "application/octet-stream")
+                .header(HEADER_CONTENT_LENGTH, String.valueOf(json.length))
+                .POST(HttpRequest.BodyPublishers.concat(tensors.toArray(HttpRequest.BodyPublisher[]::new)))
+                .build();
+    }
+
+    private InferenceResponse parse(HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        Assertions.assertEquals(200, response.statusCode(), new String(body, StandardCharsets.UTF_8));
+        int headerLength = response.headers().firstValue(HEADER_CONTENT_LENGTH).map(Integer::parseInt).orElse(body.length);
+        try {
+            JsonNode header = objectMapper.readTree(body, 0, headerLength);
+            return new InferenceResponse(header.path("model_name").asText(null), header.path("id").asText(null),
+                    readTensors(header.path("outputs"), body, headerLength));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @param nodes tensors of a request or response
+     * @param body whole body with binary tensors following the JSON header, null when there are none
+     * @param offset position of the first binary tensor in the body
+     */
+    private static List<Tensor> readTensors(JsonNode nodes, byte[] body, int offset) {
+        List<Tensor> tensors = new ArrayList<>();
+        for (JsonNode node : nodes) {
+            DataType datatype = DataType.valueOf(node.path("datatype").asText());
+            long[] shape = new long[node.path("shape").size()];
+            for (int i = 0; i < shape.length; i++) {
+                shape[i] = node.path("shape").get(i).asLong();
+            }
+            JsonNode binarySize = node.path("parameters").path("binary_data_size");
+            ByteBuffer data;
+            if (binarySize.isNumber()) {
+                data = ByteBuffer.wrap(body, offset, binarySize.asInt()).slice();
+                offset += binarySize.asInt();
+            } else {
+                data = ByteBuffer.allocate(Math.toIntExact(Tensor.elementCount(shape) * datatype.size)).order(ByteOrder.LITTLE_ENDIAN);
+                readData(node.path("data"), datatype, data);
+                data.flip();
+            }
+            tensors.add(new Tensor(node.path("name").asText(), datatype, shape, data));
+        }
+        return tensors;
+    }
+
+    // data may be flat or nested following the shape, both are in row-major order
+    private static void readData(JsonNode data, DataType datatype, ByteBuffer buffer) {
+        for (JsonNode value : data) {
+            if (value.isArray()) {
+                readData(value, datatype, buffer);
+            } else {
+                datatype.read(value, buffer);
+            }
+        }
+    }
+
+    private static List<long[]> batchSizes(List<List<Tensor>> samples) {
+        if (samples.isEmpty()) {
+            throw new IllegalArgumentException("No sample in the batch");
+        }
+        return samples.stream()
+                .map(sample -> sample.stream().mapToLong(tensor -> tensor.shape()[0]).toArray())
+                .toList();
+    }
+
+    private static List<Tensor> stack(List<List<Tensor>> samples) {
+        List<Tensor> inputs = new ArrayList<>();
+        for (int i = 0; i < samples.get(0).size(); i++) {
+            int input = i;
+            inputs.add(Tensor.stack(samples.stream().map(sample -> sample.get(input)).toList()));
+        }
+        return inputs;
+    }
+
+    private static List<InferenceResponse> split(InferenceResponse response, List<long[]> batchSizes) {
+        // outputs are batched the same way as the first input
+        long[] sizes = batchSizes.stream().mapToLong(sample -> sample[0]).toArray();
+        List<List<Tensor>> outputs = response.outputs().stream().map(output -> output.split(sizes)).toList();
+        List<InferenceResponse> responses = new ArrayList<>();
+        for (int i = 0; i < sizes.length; i++) {
+            int sample = i;
+            responses.add(new InferenceResponse(response.modelName(), response.id(),
+                    outputs.stream().map(output -> output.get(sample)).toList()));
+        }
+        return responses;
+    }
+
+    private byte[] toBytes(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Response of the model
+     *
+     * @param modelName name of the model which served the request
+     * @param id id of the request, null when the request had none
+     * @param outputs output tensors
+     */
+    public record InferenceResponse(String modelName, String id, List<Tensor> outputs) {
+
+        public Tensor output(String name) {
+            return outputs.stream()
+                    .filter(output -> output.name().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No output " + name + " in the response of " + modelName));
+        }
+    }
+
+    /**
+     * Tensor data types with fixed element size, {@code BYTES} and {@code FP16} are not supported
+     */
+    public enum DataType {
+        BOOL(1), UINT8(1), INT8(1), INT16(2), INT32(4), INT64(8), FP32(4), FP64(8);
+
+        private final int size;
+
+        DataType(int size) {
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param buffer little-endian data of a tensor
+         * @param index index of the element
+         * @return value of the element as double
+         */
+        public double get(ByteBuffer buffer, int index) {
+            int position = index * size;
+            return switch (this) {
+                case BOOL, INT8 -> buffer.get(position);
+                case UINT8 -> Byte.toUnsignedInt(buffer.get(position));
+                case INT16 -> buffer.getShort(position);
+                case INT32 -> buffer.getInt(position);
+                case INT64 -> buffer.getLong(position);
+                case FP32 -> buffer.getFloat(position);
+                case FP64 -> buffer.getDouble(position);
+            };
+        }
+
+        void write(ByteBuffer buffer, int index, ArrayNode data) {
+            int position = index * size;
+            switch (this) {
+                case BOOL -> data.add(buffer.get(position) != 0);
+                case FP32 -> data.add(buffer.getFloat(position));
+                case FP64 -> data.add(buffer.getDouble(position));
+                case INT64 -> data.add(buffer.getLong(position));
+                default -> data.add((int) get(buffer, index));
+            }
+        }
+
+        void read(JsonNode value, ByteBuffer buffer) {
+            switch (this) {
+                case BOOL -> buffer.put((byte) (value.asBoolean() ? 1 : 0));
+                case UINT8, INT8 -> buffer.put((byte) value.asInt());
+                case INT16 -> buffer.putShort((short) value.asInt());
+                case INT32 -> buffer.putInt(value.asInt());
+                case INT64 -> buffer.putLong(value.asLong());
+                case FP32 -> buffer.putFloat(value.floatValue());
+                case FP64 -> buffer.putDouble(value.asDouble());
+                default -> throw new IllegalStateException("Unexpected data type " + this);
+            }
+        }
+    }
+
+    /**
+     * Tensor with its data in little-endian byte order, as the binary data extension sends it
+     *
+     * @param name name of the input or output
+     * @param datatype type of the elements
+     * @param shape dimensions of the tensor, the first one is the batch size
+     * @param data elements in row-major order between position and limit of the buffer
+     */
+    public record Tensor(String name, DataType datatype, long[] shape, ByteBuffer data) {
+
+        public static Tensor fp32(String name, long[] shape, float... values) {
+            ByteBuffer data = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            data.asFloatBuffer().put(values);
+            return new Tensor(name, DataType.FP32, shape, data);
+        }
+
+        public static Tensor int64(String name, long[] shape, long... values) {
+            ByteBuffer data = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            data.asLongBuffer().put(values);
+            return new Tensor(name, DataType.INT64, shape, data);
+        }
+
+        public long elementCount() {
+            return elementCount(shape);
+        }
+
+        static long elementCount(long[] shape) {
+            return Arrays.stream(shape).reduce(1, Math::multiplyExact);
+        }
+
+        /**
+         * @return view of the data for absolute little-endian reads, indexes start from 0
+         */
+        public ByteBuffer littleEndian() {
+            return data.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        public float[] asFloats() {
+            if (datatype != DataType.FP32) {
+                throw new IllegalStateException("Tensor " + name + " is " + datatype + ", not FP32");
+            }
+            float[] values = new float[Math.toIntExact(elementCount())];
+            littleEndian().asFloatBuffer().get(values);
+            return values;
+        }
+
+        public double[] asDoubles() {
+            ByteBuffer buffer = littleEndian();
+            double[] values = new double[Math.toIntExact(elementCount())];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = datatype.get(buffer, i);
+            }
+            return values;
+        }
+
+        /**
+         * Concatenates tensors along the first dimension
+         *
+         * @param tensors tensors with the same name, type and other dimensions
+         * @return tensor of the whole batch
+         */
+        public static Tensor stack(List<Tensor> tensors) {
+            Tensor first = tensors.get(0);
+            long[] shape = first.shape().clone();
+            shape[0] = 0;
+            int size = 0;
+            for (Tensor tensor : tensors) {
+                if (!tensor.name().equals(first.name()) || tensor.datatype() != first.datatype()
+                        || !Arrays.equals(tensor.shape(), 1, tensor.shape().length, first.shape(), 1, first.shape().length)) {
+                    throw new IllegalArgumentException("Tensor " + tensor.name() + " " + tensor.datatype() + Arrays.toString(tensor.shape())
+                            + " cannot be stacked with " + first.name() + " " + first.datatype() + Arrays.toString(first.shape()));
+                }
+                shape[0] += tensor.shape()[0];
+                size += tensor.data().remaining();
+            }
+            ByteBuffer data = ByteBuffer.allocateDirect(size);
+            tensors.forEach(tensor -> data.put(tensor.data().duplicate()));
+            return new Tensor(first.name(), first.datatype(), shape, data.flip());
+        }
+
+        /**
+         * Splits tensor along the first dimension, the parts share the data of this tensor
+         *
+         * @param batchSizes sizes of the first dimension of the parts, they have to sum up to the first dimension
+         * @return parts of the tensor
+         */
+        public List<Tensor> split(long[] batchSizes) {
+            if (Arrays.stream(batchSizes).sum() != shape[0]) {
+                throw new IllegalArgumentException("Batch sizes " + Arrays.toString(batchSizes) + " do not match shape " + Arrays.toString(shape));
+            }
+            int rowSize = Math.toIntExact(data.remaining() / Math.max(1, shape[0]));
+            List<Tensor> parts = new ArrayList<>();
+            int offset = data.position();
+            for (long batchSize : batchSizes) {
+                long[] partShape = shape.clone();
+                partShape[0] = batchSize;
+                int length = Math.toIntExact(batchSize * rowSize);
+                parts.add(new Tensor(name, datatype, partShape, data.duplicate().position(offset).limit(offset + length).slice()));
+                offset += length;
+            }
+            return parts;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform;
+
+import io.odh.test.framework.load.LoadGenerator;
+import io.odh.test.framework.load.LoadSchedule;
+import io.odh.test.platform.httpClient.ByteBufferBodyPublisher;
+import org.junit.jupiter.api.Assertions;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_DURATION;
+import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_UNIT;
+
+/**
+ * Inference load against {@code /infer} endpoints of served models. All requests go through one {@link HttpClient},
+ * so with HTTP/2 the concurrent requests of a model are streams multiplexed over a single connection.
+ * Requests are sent with {@link HttpClient#sendAsync} at their due times no matter whether the previous responses
+ * arrived, so a saturated model shows its true tail latency instead of slowing down the load.
+ * Every model is a separate operation of the load with its own latency histogram and error count, a response
+ * with other status than 200 or without the expected output is counted as an error.
+ */
+public class InferenceLoad {
+
+    private final HttpClient httpClient;
+    private final ByteBuffer input;
+    private final String expectedOutput;
+    private final Map<String, LoadGenerator.AsyncOperation> models = new LinkedHashMap<>();
+
+    /**
+     * @param httpClient client shared by all requests
+     * @param input body of every inference request, e.g. from {@link io.odh.test.platform.httpClient.PayloadCache},
+     *              shared by all requests without copying
+     * @param expectedOutput text which every response has to contain, null to check the status only
+     */
+    public InferenceLoad(HttpClient httpClient, ByteBuffer input, String expectedOutput) {
+        this.httpClient = httpClient;
+        this.input = input;
+        this.expectedOutput = expectedOutput;
+    }
+
+    /**
+     * Adds model to the load, models share the rate equally
+     *
+     * @param name name of the model in the report
+     * @param baseUrl url of the model, {@code /infer} is appended
+     * @return this load
+     */
+    public InferenceLoad model(String name, String baseUrl) {
+        URI uri = URI.create(baseUrl + "/infer");
+        models.put(name, () -> infer(uri));
+        return this;
+    }
+
+    /**
+     * Adds model whose requests are coalesced by the batcher, every request of the load is one sample of a batch.
+     * Only the status of the batched responses is checked.
+     *
+     * @param name name of the model in the report
+     * @param batcher batcher of the model
+     * @param inputs input tensors of every sample
+     * @return this load
+     */
+    public InferenceLoad batchedModel(String name, InferenceBatcher batcher, List<InferenceClient.Tensor> inputs) {
+        models.put(name, () -> batcher.submit(inputs).thenApply(response -> true));
+        return this;
+    }
+
+    /**
+     * Creates generator of the load
+     *
+     * @param schedule due times of the requests of all models together
+     * @param streams maximal number of concurrent requests, 0 for no limit
+     * @return generator ready to be run
+     */
+    public LoadGenerator generator(LoadSchedule schedule, int streams) {
+        LoadGenerator generator = new LoadGenerator(schedule, streams);
+        models.forEach((name, operation) -> generator.asyncOperation(name, 1, operation));
+        return generator;
+    }
+
+    private CompletableFuture<Boolean> infer(URI uri) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(uri)
+                // this is the Content-Type header that `curl --data` sets by default
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(new ByteBufferBodyPublisher(input))
+                .timeout(Duration.of(DEFAULT_TIMEOUT_DURATION, DEFAULT_TIMEOUT_UNIT.toChronoUnit()))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            Assertions.assertEquals(200, response.statusCode(), response.body());
+            if (expectedOutput != null) {
+                Assertions.assertTrue(response.body().contains(expectedOutput), response.body());
+            }
+            return true;
+        });
+    }
+}
@@ -9,8 +9,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.odh.test.framework.wait.BackoffWait;
+import io.odh.test.platform.httpClient.JsonBodyHandler;
 import io.odh.test.platform.httpClient.MultipartFormDataBodyPublisher;
-import io.skodjob.testframe.wait.Wait;
+import io.odh.test.platform.httpClient.PageIterator;
 import lombok.SneakyThrows;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -23,15 +27,27 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.file.Path;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_DURATION;
 import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_UNIT;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class KFPv1Client {
+    /**
+     * Run listings are used for statuses only, workflow manifest embedded in every run is not deserialized
+     */
+    public static final Set<String> RUN_LIST_SKIPPED_FIELDS = Set.of("runs.pipeline_spec.workflow_manifest");
+    /**
+     * Final statuses of a run
+     */
+    static final List<String> FINISHED_STATUSES = List.of("Succeeded", "Skipped", "Failed", "Error");
+
     private final ObjectMapper objectMapper = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .enable(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION)
@@ -47,6 +63,15 @@ public class KFPv1Client {
         this.baseUrl = baseUrl;
     }
 
+    /**
+     * Returns mapper used for (de)serialization of the API messages
+     *
+     * @return object mapper
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
     @SneakyThrows
     public Pipeline importPipeline(String name, String description, String filePath) {
         MultipartFormDataBodyPublisher requestBody = new MultipartFormDataBodyPublisher()
@@ -65,21 +90,20 @@ public class KFPv1Client {
         return objectMapper.readValue(responseCreate.body(), Pipeline.class);
     }
 
-    @SneakyThrows
     public @Nonnull List<Pipeline> listPipelines() {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl + "/apis/v1beta1/pipelines"))
-                .GET()
-                .timeout(Duration.of(DEFAULT_TIMEOUT_DURATION, DEFAULT_TIMEOUT_UNIT.toChronoUnit()))
-                .build();
-
-        HttpResponse<String> reply = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        Assertions.assertEquals(reply.statusCode(), 200, reply.body());
-
-        PipelineResponse json = objectMapper.readValue(reply.body(), PipelineResponse.class);
-        List<Pipeline> pipelines = json.pipelines;
+        try (Stream<Pipeline> pipelines = streamPipelines()) {
+            return pipelines.toList();
+        }
+    }
 
-        return pipelines == null ? Collections.emptyList() : pipelines;
+    /**
+     * Lazily streams pipelines of all pages, the next page is fetched in the background
+     *
+     * @return stream of pipelines, should be closed when not consumed completely
+     */
+    public Stream<Pipeline> streamPipelines() {
+        return PageIterator.stream(token -> getAsync("/apis/v1beta1/pipelines", token, PipelineResponse.class, Set.of()),
+                page -> page.pipelines, page -> page.nextPageToken);
     }
 
     @SneakyThrows
@@ -101,17 +125,45 @@ public class KFPv1Client {
         return objectMapper.readValue(reply.body(), ApiRunDetail.class).run;
     }
 
-    @SneakyThrows
     public List<PipelineRun> getPipelineRunStatus() {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl + "/apis/v1beta1/runs"))
-                .GET()
-                .timeout(Duration.of(DEFAULT_TIMEOUT_DURATION, DEFAULT_TIMEOUT_UNIT.toChronoUnit()))
-                .build();
-        HttpResponse<String> reply = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        try (Stream<PipelineRun> runs = streamPipelineRuns()) {
+            return runs.toList();
+        }
+    }
 
-        Assertions.assertEquals(reply.statusCode(), 200, reply.body());
-        return objectMapper.readValue(reply.body(), ApiListRunsResponse.class).runs;
+    /**
+     * Lazily streams pipeline runs of all pages without {@link #RUN_LIST_SKIPPED_FIELDS}
+     *
+     * @return stream of pipeline runs, should be closed when not consumed completely
+     */
+    public Stream<PipelineRun> streamPipelineRuns() {
+        return streamPipelineRuns(RUN_LIST_SKIPPED_FIELDS);
+    }
+
+    /**
+     * Lazily streams pipeline runs of all pages, the next page is fetched in the background
+     *
+     * @param skippedFields paths of JSON fields which are not deserialized, e.g. runs.pipeline_spec.workflow_manifest
+     * @return stream of pipeline runs, should be closed when not consumed completely
+     */
+    public Stream<PipelineRun> streamPipelineRuns(Set<String> skippedFields) {
+        return streamPipelineRuns(null, skippedFields);
+    }
+
+    /**
+     * Lazily streams those of the given runs which reached a final state, see {@link KFPv2Client#streamFinishedPipelineRuns}
+     *
+     * @param runIds ids of the runs
+     * @return stream of finished pipeline runs, should be closed when not consumed completely
+     */
+    public Stream<PipelineRun> streamFinishedPipelineRuns(Collection<String> runIds) {
+        return KFPv2Client.batchedFilters(runIds, KFPv1Client::finishedRunsFilter).stream()
+                .flatMap(filter -> streamPipelineRuns(filter, RUN_LIST_SKIPPED_FIELDS));
+    }
+
+    private Stream<PipelineRun> streamPipelineRuns(String filter, Set<String> skippedFields) {
+        return PageIterator.stream(token -> getAsync("/apis/v1beta1/runs", token, filter, ApiListRunsResponse.class, skippedFields),
+                page -> page.runs, page -> page.nextPageToken);
     }
 
     @SneakyThrows
@@ -123,24 +175,13 @@ public class KFPv1Client {
                 .build();
 
         AtomicReference<PipelineRun> run = new AtomicReference<>();
-        Wait.until("pipelineRun to complete", 5000, 10 * 60 * 1000, () -> {
+        BackoffWait.until("pipelineRun to complete", 5000, 10 * 60 * 1000, () -> {
             HttpResponse<String> reply = null;
             try {
                 reply = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
                 Assertions.assertEquals(reply.statusCode(), 200, reply.body());
                 run.set(objectMapper.readValue(reply.body(), ApiRunDetail.class).run);
-                String status = run.get().status;
-                if (status == null) {
-                    return false; // e.g. pod has not been deployed
-                }
-                // https://github.com/kubeflow/pipelines/issues/7705
-                return switch (status) {
-                    case "Succeeded" -> true;
-                    case "Pending", "Running" -> false;
-                    case "Skipped", "Failed", "Error" ->
-                            throw new AssertionError("Pipeline run failed: " + status + run.get().error);
-                    default -> throw new AssertionError("Unexpected pipeline run status: " + status + run.get().error);
-                };
+                return PipelineRunTracker.isCompleted(new PipelineRunTracker.RunState(run.get().id, run.get().status, run.get().error));
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             } catch (InterruptedException e) {
@@ -153,6 +194,43 @@ public class KFPv1Client {
         return run.get();
     }
 
+    /**
+     * Waits for all runs with a single listing of the finished runs among them every 5 seconds
+     *
+     * @param pipelineRunIds ids of the runs
+     * @return futures of the runs in the order in which they finish, see {@link #waitForPipelineRuns(Collection, Duration, Duration)}
+     */
+    public Stream<CompletableFuture<PipelineRun>> waitForPipelineRuns(Collection<String> pipelineRunIds) {
+        return waitForPipelineRuns(pipelineRunIds, Duration.ofSeconds(5), Duration.ofMinutes(10));
+    }
+
+    /**
+     * Waits for all runs with a single listing of the finished runs among them per poll interval
+     *
+     * @param pipelineRunIds ids of the runs
+     * @param pollInterval interval between two listings
+     * @param timeout timeout of the whole wait
+     * @return futures of the runs in the order in which they finish, failed with {@link AssertionError} for failed runs
+     * and with {@link java.util.concurrent.TimeoutException} for runs which did not finish in time
+     */
+    public Stream<CompletableFuture<PipelineRun>> waitForPipelineRuns(Collection<String> pipelineRunIds, Duration pollInterval, Duration timeout) {
+        return PipelineRunWaiter.waitFor(pipelineRunIds, this::streamFinishedPipelineRuns,
+                run -> new PipelineRunTracker.RunState(run.id, run.status, run.error), pollInterval, timeout);
+    }
+
+    /**
+     * Filter of the given runs which are in a final state
+     *
+     * @param runIds ids of the runs
+     * @return JSON encoded filter
+     */
+    static String finishedRunsFilter(Collection<String> runIds) {
+        ArrayNode predicates = JsonNodeFactory.instance.arrayNode();
+        KFPv2Client.addInPredicate(predicates, "op", "status", FINISHED_STATUSES);
+        KFPv2Client.addInPredicate(predicates, "op", "id", runIds);
+        return JsonNodeFactory.instance.objectNode().set("predicates", predicates).toString();
+    }
+
     @SneakyThrows
     public void deletePipelineRun(String runId) {
         HttpRequest request = HttpRequest.newBuilder()
@@ -178,9 +256,23 @@ public class KFPv1Client {
     /// helpers for reading json responses
     /// there is openapi spec, so this can be generated
 
+    private <T> CompletableFuture<T> getAsync(String path, String pageToken, Class<T> type, Set<String> skippedFields) {
+        return getAsync(path, pageToken, null, type, skippedFields);
+    }
+
+    private <T> CompletableFuture<T> getAsync(String path, String pageToken, String filter, Class<T> type, Set<String> skippedFields) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path + KFPv2Client.pageQuery(pageToken, filter)))
+                .GET()
+                .timeout(Duration.of(DEFAULT_TIMEOUT_DURATION, DEFAULT_TIMEOUT_UNIT.toChronoUnit()))
+                .build();
+        return JsonBodyHandler.sendAsync(httpClient, request, objectMapper, type, skippedFields);
+    }
+
     public static class PipelineResponse {
         public List<Pipeline> pipelines;
         public int totalSize;
+        public String nextPageToken;
     }
 
     public static class Pipeline {
@@ -0,0 +1,214 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.odh.test.platform.KFPv2Client.ApiListRunsResponse;
+import io.odh.test.platform.KFPv2Client.ListPipelineVersionsResponse;
+import io.odh.test.platform.KFPv2Client.ListPipelinesResponse;
+import io.odh.test.platform.KFPv2Client.Pipeline;
+import io.odh.test.platform.KFPv2Client.PipelineRun;
+import io.odh.test.platform.KFPv2Client.PipelineVersion;
+import io.odh.test.platform.KFPv2Client.PipelineVersionReference;
+import io.odh.test.platform.KFPv2Client.RuntimeConfig;
+import io.odh.test.platform.httpClient.JsonBodyHandler;
+import io.odh.test.platform.httpClient.MultipartFormDataBodyPublisher;
+import io.odh.test.platform.httpClient.PageIterator;
+import org.junit.jupiter.api.Assertions;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_DURATION;
+import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_UNIT;
+
+/**
+ * Non-blocking counterpart of {@link KFPv2Client} built on {@link HttpClient#sendAsync}, requests do not hold a thread
+ * while waiting for the response, so hundreds of pipeline imports and runs can be in flight from a single JVM.
+ * Returned futures complete exceptionally with {@link AssertionError} when the API replies with an unexpected status.
+ */
+// https://www.kubeflow.org/docs/components/pipelines/v2/reference/api/kubeflow-pipeline-api-spec/
+public class KFPv2AsyncClient {
+    private final ObjectMapper objectMapper = KFPv2Client.newObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String oauthToken;
+
+    public KFPv2AsyncClient(HttpClient httpClient, String baseUrl, String oauthToken) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.oauthToken = oauthToken;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public CompletableFuture<Pipeline> importPipeline(String name, String description, String filePath) {
+        MultipartFormDataBodyPublisher requestBody = new MultipartFormDataBodyPublisher()
+                .addFile("uploadfile", Path.of(filePath), "application/yaml");
+
+        HttpRequest request = buildRequest()
+                .uri(URI.create(baseUrl + "/apis/v2beta1/pipelines/upload?name=%s&description=%s"
+                        .formatted(encode(name), encode(description))))
+                .header("Content-Type", requestBody.contentType())
+                .POST(requestBody)
+                .build();
+        return send(request, Pipeline.class);
+    }
+
+    public CompletableFuture<List<Pipeline>> listPipelines() {
+        return PageIterator.collect(token -> get("/apis/v2beta1/pipelines" + KFPv2Client.pageQuery(token), ListPipelinesResponse.class),
+                page -> page.pipelines, page -> page.nextPageToken);
+    }
+
+    public CompletableFuture<List<PipelineVersion>> listPipelineVersions(String pipelineId) {
+        return PageIterator.collect(token -> get("/apis/v2beta1/pipelines/" + pipelineId + "/versions" + KFPv2Client.pageQuery(token),
+                        ListPipelineVersionsResponse.class),
+                page -> page.pipelineVersions, page -> page.nextPageToken);
+    }
+
+    public CompletableFuture<PipelineRun> runPipeline(String pipelineTestRunBasename, String pipelineId, Map<?, ?> parameters, String immediate) {
+        Assertions.assertEquals(immediate, "Immediate");
+
+        PipelineRun pipelineRun = new PipelineRun();
+        pipelineRun.displayName = pipelineTestRunBasename;
+        pipelineRun.pipelineVersionReference = new PipelineVersionReference();
+        pipelineRun.pipelineVersionReference.pipelineId = pipelineId;
+        if (parameters != null) {
+            pipelineRun.runtimeConfig = new RuntimeConfig();
+            pipelineRun.runtimeConfig.parameters = parameters;
+        }
+        HttpRequest request;
+        try {
+            request = buildRequest()
+                    .uri(URI.create(baseUrl + "/apis/v2beta1/runs"))
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(pipelineRun)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return send(request, PipelineRun.class);
+    }
+
+    public CompletableFuture<List<PipelineRun>> getPipelineRunStatus() {
+        return PageIterator.collect(token -> get("/apis/v2beta1/runs" + KFPv2Client.pageQuery(token), ApiListRunsResponse.class,
+                        KFPv2Client.RUN_LIST_SKIPPED_FIELDS), page -> page.runs, page -> page.nextPageToken);
+    }
+
+    public CompletableFuture<PipelineRun> getPipelineRun(String pipelineRunId) {
+        return get("/apis/v2beta1/runs/" + pipelineRunId, PipelineRun.class);
+    }
+
+    public CompletableFuture<PipelineRun> waitForPipelineRun(String pipelineRunId) {
+        return waitForPipelineRun(pipelineRunId, Duration.ofSeconds(5), Duration.ofMinutes(10));
+    }
+
+    /**
+     * Polls the pipeline run until it succeeds, no thread is blocked between polls
+     *
+     * @param pipelineRunId id of the run
+     * @param pollInterval delay between two polls
+     * @param timeout maximal time to wait for the run
+     * @return future completed with the succeeded run, or exceptionally with {@link AssertionError} when the run fails
+     * and with {@link TimeoutException} when it does not finish in time
+     */
+    public CompletableFuture<PipelineRun> waitForPipelineRun(String pipelineRunId, Duration pollInterval, Duration timeout) {
+        CompletableFuture<PipelineRun> result = new CompletableFuture<>();
+        poll(pipelineRunId, pollInterval, Instant.now().plus(timeout), result);
+        return result;
+    }
+
+    private void poll(String pipelineRunId, Duration pollInterval, Instant deadline, CompletableFuture<PipelineRun> result) {
+        getPipelineRun(pipelineRunId).whenComplete((run, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                if (KFPv2Client.isCompleted(run)) {
+                    result.complete(run);
+                } else if (Instant.now().plus(pollInterval).isAfter(deadline)) {
+                    result.completeExceptionally(new TimeoutException("Timeout while waiting for pipelineRun " + pipelineRunId
+                            + " to complete, last state " + run.state));
+                } else {
+                    CompletableFuture.delayedExecutor(pollInterval.toMillis(), TimeUnit.MILLISECONDS)
+                            .execute(() -> poll(pipelineRunId, pollInterval, deadline, result));
+                }
+            } catch (AssertionError e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    public CompletableFuture<Void> deletePipelineRun(String runId) {
+        return delete("/apis/v2beta1/runs/" + runId);
+    }
+
+    public CompletableFuture<Void> deletePipeline(String pipelineId) {
+        return delete("/apis/v2beta1/pipelines/" + pipelineId);
+    }
+
+    public CompletableFuture<Void> deletePipelineVersion(String pipelineId, String pipelineVersionId) {
+        return delete("/apis/v2beta1/pipelines/" + pipelineId + "/versions/" + pipelineVersionId);
+    }
+
+    private CompletableFuture<Void> delete(String path) {
+        HttpRequest request = buildRequest()
+                .uri(URI.create(baseUrl + path))
+                .DELETE()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenAccept(reply -> Assertions.assertEquals(200, reply.statusCode(), reply.body()));
+    }
+
+    private <T> CompletableFuture<T> get(String path, Class<T> type) {
+        return get(path, type, Set.of());
+    }
+
+    private <T> CompletableFuture<T> get(String path, Class<T> type, Set<String> skippedFields) {
+        HttpRequest request = buildRequest()
+                .uri(URI.create(baseUrl + path))
+                .GET()
+                .build();
+        return send(request, type, skippedFields);
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, Class<T> type) {
+        return send(request, type, Set.of());
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, Class<T> type, Set<String> skippedFields) {
+        return JsonBodyHandler.sendAsync(httpClient, request, objectMapper, type, skippedFields);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder buildRequest() {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .timeout(Duration.of(DEFAULT_TIMEOUT_DURATION, DEFAULT_TIMEOUT_UNIT.toChronoUnit()));
+        if (oauthToken != null) {
+            requestBuilder.header("Authorization", "Bearer " + oauthToken);
+        }
+        return requestBuilder;
+    }
+}
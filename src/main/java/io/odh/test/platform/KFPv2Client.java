@@ -9,8 +9,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.odh.test.framework.wait.BackoffWait;
+import io.odh.test.platform.httpClient.JsonBodyHandler;
 import io.odh.test.platform.httpClient.MultipartFormDataBodyPublisher;
-import io.skodjob.testframe.wait.Wait;
+import io.odh.test.platform.httpClient.PageIterator;
 import lombok.SneakyThrows;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -18,15 +22,22 @@ import org.junit.jupiter.api.Assertions;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_DURATION;
 import static io.odh.test.TestUtils.DEFAULT_TIMEOUT_UNIT;
@@ -34,10 +45,22 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 // https://www.kubeflow.org/docs/components/pipelines/v2/reference/api/kubeflow-pipeline-api-spec/
 public class KFPv2Client {
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .enable(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION)
-            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    static final int PAGE_SIZE = 100;
+    /**
+     * URL encoded filters are kept below this length, so the request line of a list request fits into the 8 KiB
+     * buffer proxies in front of the pipeline API commonly allocate for it
+     */
+    static final int MAX_ENCODED_FILTER_LENGTH = 6 * 1024;
+    /**
+     * Run listings are used for states only, task details of every run are not deserialized
+     */
+    public static final Set<String> RUN_LIST_SKIPPED_FIELDS = Set.of("runs.run_details.task_details");
+    /**
+     * Final states of a run, see {@link #isCompleted(PipelineRun)}
+     */
+    static final List<String> FINISHED_STATES = List.of("SUCCEEDED", "SKIPPED", "FAILED", "CANCELED", "PAUSED");
+
+    private final ObjectMapper objectMapper = newObjectMapper();
 
     private final HttpClient httpClient;
     private final String baseUrl;
@@ -49,6 +72,15 @@ public class KFPv2Client {
         this.oauthToken = oauthToken;
     }
 
+    /**
+     * Returns mapper used for (de)serialization of the API messages
+     *
+     * @return object mapper
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
     @SneakyThrows
     public Pipeline importPipeline(String name, String description, String filePath) {
         MultipartFormDataBodyPublisher requestBody = new MultipartFormDataBodyPublisher()
@@ -66,36 +98,38 @@ public class KFPv2Client {
         return objectMapper.readValue(responseCreate.body(), Pipeline.class);
     }
 
-    @SneakyThrows
     public @Nonnull List<Pipeline> listPipelines() {
-        HttpRequest request = buildRequest()
-                .uri(URI.create(baseUrl + "/apis/v2beta1/pipelines"))
-                .GET()
-                .build();
-
-        HttpResponse<String> reply = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        Assertions.assertEquals(reply.statusCode(), 200, reply.body());
-
-        ListPipelinesResponse json = objectMapper.readValue(reply.body(), ListPipelinesResponse.class);
-        List<Pipeline> pipelines = json.pipelines;
+        try (Stream<Pipeline> pipelines = streamPipelines()) {
+            return pipelines.toList();
+        }
+    }
 
-        return pipelines == null ? Collections.emptyList() : pipelines;
+    /**
+     * Lazily streams pipelines of all pages, the next page is fetched in the background
+     *
+     * @return stream of pipelines, should be closed when not consumed completely
+     */
+    public Stream<Pipeline> streamPipelines() {
+        return PageIterator.stream(token -> getAsync("/apis/v2beta1/pipelines", token, ListPipelinesResponse.class, Set.of()),
+                page -> page.pipelines, page -> page.nextPageToken);
     }
 
-    @SneakyThrows
     public @Nonnull List<PipelineVersion> listPipelineVersions(String pipelineId) {
-        HttpRequest request = buildRequest()
-                .uri(URI.create(baseUrl + "/apis/v2beta1/pipelines/" + pipelineId + "/versions"))
-                .GET()
-                .build();
-
-        HttpResponse<String> reply = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        Assertions.assertEquals(reply.statusCode(), 200, reply.body());
-
-        ListPipelineVersionsResponse json = objectMapper.readValue(reply.body(), ListPipelineVersionsResponse.class);
-        List<PipelineVersion> pipelineVersions = json.pipelineVersions;
+        try (Stream<PipelineVersion> pipelineVersions = streamPipelineVersions(pipelineId)) {
+            return pipelineVersions.toList();
+        }
+    }
 
-        return pipelineVersions == null ? Collections.emptyList() : pipelineVersions;
+    /**
+     * Lazily streams versions of the pipeline of all pages, the next page is fetched in the background
+     *
+     * @param pipelineId pipeline id
+     * @return stream of pipeline versions, should be closed when not consumed completely
+     */
+    public Stream<PipelineVersion> streamPipelineVersions(String pipelineId) {
+        return PageIterator.stream(token -> getAsync("/apis/v2beta1/pipelines/" + pipelineId + "/versions", token,
+                        ListPipelineVersionsResponse.class, Set.of()),
+                page -> page.pipelineVersions, page -> page.nextPageToken);
     }
 
     @SneakyThrows
@@ -120,16 +154,58 @@ public class KFPv2Client {
         return objectMapper.readValue(reply.body(), PipelineRun.class);
     }
 
-    @SneakyThrows
     public List<PipelineRun> getPipelineRunStatus() {
-        HttpRequest request = buildRequest()
-                .uri(URI.create(baseUrl + "/apis/v2beta1/runs"))
-                .GET()
-                .build();
-        HttpResponse<String> reply = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        try (Stream<PipelineRun> runs = streamPipelineRuns()) {
+            return runs.toList();
+        }
+    }
 
-        Assertions.assertEquals(reply.statusCode(), 200, reply.body());
-        return objectMapper.readValue(reply.body(), ApiListRunsResponse.class).runs;
+    /**
+     * Lazily streams pipeline runs of all pages without {@link #RUN_LIST_SKIPPED_FIELDS}
+     *
+     * @return stream of pipeline runs, should be closed when not consumed completely
+     */
+    public Stream<PipelineRun> streamPipelineRuns() {
+        return streamPipelineRuns(RUN_LIST_SKIPPED_FIELDS);
+    }
+
+    /**
+     * Lazily streams pipeline runs of all pages, the next page is fetched in the background
+     *
+     * @param skippedFields paths of JSON fields which are not deserialized, e.g. runs.run_details.task_details
+     * @return stream of pipeline runs, should be closed when not consumed completely
+     */
+    public Stream<PipelineRun> streamPipelineRuns(Set<String> skippedFields) {
+        return streamPipelineRuns(null, skippedFields);
+    }
+
+    /**
+     * Lists the first page of pipeline runs without {@link #RUN_LIST_SKIPPED_FIELDS} by a single request. Unlike
+     * {@link #streamPipelineRuns()}, no further page is fetched in the background.
+     *
+     * @return future of at most {@value #PAGE_SIZE} pipeline runs
+     */
+    public CompletableFuture<List<PipelineRun>> listPipelineRunsPage() {
+        return getAsync("/apis/v2beta1/runs", null, ApiListRunsResponse.class, RUN_LIST_SKIPPED_FIELDS)
+                .thenApply(page -> page.runs == null ? List.of() : page.runs);
+    }
+
+    /**
+     * Lazily streams those of the given runs which reached a final state. The listing is filtered on the run ids,
+     * so its size does not depend on the number of runs on the server. Ids which do not fit into the URL of one
+     * request, about 130 of them, are listed by further requests.
+     *
+     * @param runIds ids of the runs
+     * @return stream of finished pipeline runs, should be closed when not consumed completely
+     */
+    public Stream<PipelineRun> streamFinishedPipelineRuns(Collection<String> runIds) {
+        return batchedFilters(runIds, KFPv2Client::finishedRunsFilter).stream()
+                .flatMap(filter -> streamPipelineRuns(filter, RUN_LIST_SKIPPED_FIELDS));
+    }
+
+    private Stream<PipelineRun> streamPipelineRuns(String filter, Set<String> skippedFields) {
+        return PageIterator.stream(token -> getAsync("/apis/v2beta1/runs", token, filter, ApiListRunsResponse.class, skippedFields),
+                page -> page.runs, page -> page.nextPageToken);
     }
 
     @SneakyThrows
@@ -140,23 +216,12 @@ public class KFPv2Client {
                 .build();
 
         AtomicReference<PipelineRun> run = new AtomicReference<>();
-        Wait.until("pipelineRun to complete", 5000, 10 * 60 * 1000, () -> {
+        BackoffWait.until("pipelineRun to complete", 5000, 10 * 60 * 1000, () -> {
             try {
                 HttpResponse<String> reply = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
                 Assertions.assertEquals(reply.statusCode(), 200, reply.body());
                 run.set(objectMapper.readValue(reply.body(), PipelineRun.class));
-                String state = run.get().state;
-                if (state == null) {
-                    return false; // e.g. pod has not been deployed
-                }
-                // https://github.com/kubeflow/pipelines/issues/7705
-                return switch (state) {
-                    case "SUCCEEDED" -> true;
-                    case "PENDING", "RUNNING" -> false;
-                    case "SKIPPED", "FAILED", "CANCELING", "CANCELED", "PAUSED" ->
-                            throw new AssertionError("Pipeline run failed: " + state + run.get().error);
-                    default -> throw new AssertionError("Unexpected pipeline run status: " + state + run.get().error);
-                };
+                return isCompleted(run.get());
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             } catch (InterruptedException e) {
@@ -169,6 +234,30 @@ public class KFPv2Client {
         return run.get();
     }
 
+    /**
+     * Waits for all runs with a single listing of the finished runs among them every 5 seconds
+     *
+     * @param pipelineRunIds ids of the runs
+     * @return futures of the runs in the order in which they finish, see {@link #waitForPipelineRuns(Collection, Duration, Duration)}
+     */
+    public Stream<CompletableFuture<PipelineRun>> waitForPipelineRuns(Collection<String> pipelineRunIds) {
+        return waitForPipelineRuns(pipelineRunIds, Duration.ofSeconds(5), Duration.ofMinutes(10));
+    }
+
+    /**
+     * Waits for all runs with a single listing of the finished runs among them per poll interval
+     *
+     * @param pipelineRunIds ids of the runs
+     * @param pollInterval interval between two listings
+     * @param timeout timeout of the whole wait
+     * @return futures of the runs in the order in which they finish, failed with {@link AssertionError} for failed runs
+     * and with {@link java.util.concurrent.TimeoutException} for runs which did not finish in time
+     */
+    public Stream<CompletableFuture<PipelineRun>> waitForPipelineRuns(Collection<String> pipelineRunIds, Duration pollInterval, Duration timeout) {
+        return PipelineRunWaiter.waitFor(pipelineRunIds, this::streamFinishedPipelineRuns,
+                run -> new PipelineRunTracker.RunState(run.runId, run.state, run.error), pollInterval, timeout);
+    }
+
     @SneakyThrows
     public void deletePipelineRun(String runId) {
         HttpRequest request = buildRequest()
@@ -199,6 +288,127 @@ public class KFPv2Client {
         Assertions.assertEquals(200, reply.statusCode(), reply.body());
     }
 
+    /**
+     * Evaluates state of the pipeline run, see {@link PipelineRunTracker#isCompleted(PipelineRunTracker.RunState)}
+     *
+     * @param run pipeline run
+     * @return true when the run succeeded, false when it is still in progress
+     * @throws AssertionError when the run ended in any other state
+     */
+    static boolean isCompleted(PipelineRun run) {
+        return PipelineRunTracker.isCompleted(new PipelineRunTracker.RunState(run.runId, run.state, run.error));
+    }
+
+    /**
+     * Query of a list request for the page with given token
+     *
+     * @param pageToken token of the page, null for the first page
+     * @return query string starting with ?
+     */
+    static String pageQuery(String pageToken) {
+        return pageQuery(pageToken, null);
+    }
+
+    /**
+     * Query of a filtered list request for the page with given token, shared by both API versions
+     *
+     * @param pageToken token of the page, null for the first page
+     * @param filter JSON encoded filter, null for all items
+     * @return query string starting with ?
+     */
+    static String pageQuery(String pageToken, String filter) {
+        String query = "?page_size=" + PAGE_SIZE;
+        if (pageToken != null) {
+            query += "&page_token=" + URLEncoder.encode(pageToken, StandardCharsets.UTF_8);
+        }
+        if (filter != null) {
+            query += "&filter=" + URLEncoder.encode(filter, StandardCharsets.UTF_8);
+        }
+        return query;
+    }
+
+    /**
+     * Filter of the given runs which are in a final state
+     *
+     * @param runIds ids of the runs
+     * @return JSON encoded filter
+     */
+    static String finishedRunsFilter(Collection<String> runIds) {
+        ArrayNode predicates = JsonNodeFactory.instance.arrayNode();
+        addInPredicate(predicates, "operation", "state", FINISHED_STATES);
+        addInPredicate(predicates, "operation", "run_id", runIds);
+        return JsonNodeFactory.instance.objectNode().set("predicates", predicates).toString();
+    }
+
+    /**
+     * Splits the runs into as few filters as possible whose URL encoded length stays below {@link #MAX_ENCODED_FILTER_LENGTH}
+     *
+     * @param runIds ids of the runs
+     * @param filterOf filter of a batch of runs
+     * @return JSON encoded filters, empty when there are no runs
+     */
+    static List<String> batchedFilters(Collection<String> runIds, Function<Collection<String>, String> filterOf) {
+        int emptyLength = encodedLength(filterOf.apply(List.of()));
+        List<String> filters = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        int length = emptyLength;
+        for (String runId : runIds) {
+            // quoted id followed by a comma
+            int idLength = encodedLength(JsonNodeFactory.instance.textNode(runId) + ",");
+            if (!batch.isEmpty() && length + idLength > MAX_ENCODED_FILTER_LENGTH) {
+                filters.add(filterOf.apply(batch));
+                batch = new ArrayList<>();
+                length = emptyLength;
+            }
+            batch.add(runId);
+            length += idLength;
+        }
+        if (!batch.isEmpty()) {
+            filters.add(filterOf.apply(batch));
+        }
+        return filters;
+    }
+
+    private static int encodedLength(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).length();
+    }
+
+    /**
+     * Adds filter predicate matching items whose key has one of the values
+     *
+     * @param predicates predicates of the filter
+     * @param operationField name of the operation field, op in the v1 API and operation in the v2 API
+     * @param key filtered key
+     * @param values accepted values
+     */
+    static void addInPredicate(ArrayNode predicates, String operationField, String key, Collection<String> values) {
+        ArrayNode predicateValues = predicates.addObject()
+                .put("key", key)
+                .put(operationField, "IN")
+                .putObject("string_values")
+                .putArray("values");
+        values.forEach(predicateValues::add);
+    }
+
+    private <T> CompletableFuture<T> getAsync(String path, String pageToken, Class<T> type, Set<String> skippedFields) {
+        return getAsync(path, pageToken, null, type, skippedFields);
+    }
+
+    private <T> CompletableFuture<T> getAsync(String path, String pageToken, String filter, Class<T> type, Set<String> skippedFields) {
+        HttpRequest request = buildRequest()
+                .uri(URI.create(baseUrl + path + pageQuery(pageToken, filter)))
+                .GET()
+                .build();
+        return JsonBodyHandler.sendAsync(httpClient, request, objectMapper, type, skippedFields);
+    }
+
+    static ObjectMapper newObjectMapper() {
+        return new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .enable(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
     /// helpers for reading json responses
     /// there is openapi spec, so this can be generated
 
@@ -0,0 +1,259 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.odh.test.TestConstants;
+import io.skodjob.testframe.wait.WaitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Tracks completion of pipeline runs by watching the workflow objects the pipeline backend creates for them.
+ * Workflows carry the run id in the {@link #RUN_ID_LABEL} label, so one informer per namespace serves any number
+ * of tracked runs and a run completes as soon as the watch delivers the final state of its workflow.
+ * As a fallback for missed events or workflows which are not visible, e.g. due to RBAC, all pending runs are
+ * resolved every fallback interval from a listing of the pipeline API filtered on their ids, so the load on the API
+ * does not grow with the number of runs on the server.
+ */
+public final class PipelineRunTracker implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineRunTracker.class);
+
+    public static final String RUN_ID_LABEL = "pipeline/runid";
+
+    public static final ResourceDefinitionContext ARGO_WORKFLOWS = new ResourceDefinitionContext.Builder()
+            .withGroup("argoproj.io").withVersion("v1alpha1").withKind("Workflow").withPlural("workflows").withNamespaced(true).build();
+    public static final ResourceDefinitionContext TEKTON_PIPELINE_RUNS = new ResourceDefinitionContext.Builder()
+            .withGroup("tekton.dev").withVersion("v1").withKind("PipelineRun").withPlural("pipelineruns").withNamespaced(true).build();
+
+    private static final String RUN_ID_INDEX = "runId";
+
+    /**
+     * State of a pipeline run as reported by the workflow or by the pipeline API
+     *
+     * @param runId pipeline run id
+     * @param state state of the run, e.g. Succeeded or RUNNING, null when unknown
+     * @param error error message of a failed run
+     */
+    public record RunState(String runId, String state, String error) {
+    }
+
+    private final SharedIndexInformer<GenericKubernetesResource> informer;
+    private final Function<GenericKubernetesResource, RunState> workflowState;
+    private final Function<Collection<String>, Stream<RunState>> listRuns;
+    private final ScheduledExecutorService fallback;
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Starts the watch of workflows and the periodic fallback listing
+     *
+     * @param client kubernetes client
+     * @param namespace namespace of the pipeline server
+     * @param workflows resource of the workflows, {@link #ARGO_WORKFLOWS} or {@link #TEKTON_PIPELINE_RUNS}
+     * @param listRuns lists states of the given runs, runs which have not finished yet may be left out
+     * @param fallbackInterval interval of the fallback listing in milliseconds
+     */
+    public PipelineRunTracker(KubernetesClient client, String namespace, ResourceDefinitionContext workflows,
+                              Function<Collection<String>, Stream<RunState>> listRuns, long fallbackInterval) {
+        this.workflowState = workflows == TEKTON_PIPELINE_RUNS ? PipelineRunTracker::tektonState : PipelineRunTracker::argoState;
+        this.listRuns = listRuns;
+        this.informer = client.genericKubernetesResources(workflows).inNamespace(namespace).withLabel(RUN_ID_LABEL).runnableInformer(0);
+        informer.addIndexers(Map.of(RUN_ID_INDEX, workflow -> List.of(workflow.getMetadata().getLabels().get(RUN_ID_LABEL))));
+        informer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(GenericKubernetesResource workflow) {
+                settle(workflowState.apply(workflow));
+            }
+
+            @Override
+            public void onUpdate(GenericKubernetesResource oldWorkflow, GenericKubernetesResource newWorkflow) {
+                settle(workflowState.apply(newWorkflow));
+            }
+
+            @Override
+            public void onDelete(GenericKubernetesResource workflow, boolean deletedFinalStateUnknown) {
+            }
+        });
+        informer.start();
+
+        this.fallback = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pipeline-run-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fallback.scheduleWithFixedDelay(this::listPendingRuns, fallbackInterval, fallbackInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Tracker of runs of a v2 pipeline server, whose runs are executed as Argo workflows
+     */
+    public static PipelineRunTracker forClient(KubernetesClient client, String namespace, KFPv2Client kfpClient) {
+        return new PipelineRunTracker(client, namespace, ARGO_WORKFLOWS,
+                runIds -> kfpClient.streamFinishedPipelineRuns(runIds).map(run -> new RunState(run.runId, run.state, run.error)),
+                TestConstants.GLOBAL_POLL_INTERVAL_LONG);
+    }
+
+    /**
+     * Tracker of runs of a v1 pipeline server, whose runs are executed as Tekton pipeline runs
+     */
+    public static PipelineRunTracker forClient(KubernetesClient client, String namespace, KFPv1Client kfpClient) {
+        return new PipelineRunTracker(client, namespace, TEKTON_PIPELINE_RUNS,
+                runIds -> kfpClient.streamFinishedPipelineRuns(runIds).map(run -> new RunState(run.id, run.status, run.error)),
+                TestConstants.GLOBAL_POLL_INTERVAL_LONG);
+    }
+
+    /**
+     * Starts tracking of the run
+     *
+     * @param runId pipeline run id
+     * @return future completed when the run succeeded, failed with {@link AssertionError} when the run failed
+     */
+    public CompletableFuture<Void> track(String runId) {
+        CompletableFuture<Void> completion = pending.computeIfAbsent(runId, id -> new CompletableFuture<>());
+        // the workflow may have finished before the run was tracked
+        for (GenericKubernetesResource workflow : informer.getIndexer().byIndex(RUN_ID_INDEX, runId)) {
+            settle(workflowState.apply(workflow));
+        }
+        return completion;
+    }
+
+    /**
+     * Blocks until the run succeeds
+     *
+     * @param runId pipeline run id
+     * @param timeout timeout in milliseconds
+     * @throws AssertionError when the run failed
+     */
+    public void waitFor(String runId, long timeout) {
+        LOGGER.info("Waiting for: pipelineRun {} to complete", runId);
+        try {
+            track(runId).get(timeout, TimeUnit.MILLISECONDS);
+            LOGGER.info("pipelineRun {} completed", runId);
+        } catch (TimeoutException e) {
+            throw new WaitException("Timeout after " + timeout + " ms waiting for pipelineRun " + runId + " to complete");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AssertionError assertionError) {
+                throw assertionError;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Stops the watch and the fallback, runs which are still tracked are cancelled
+     */
+    @Override
+    public void close() {
+        fallback.shutdownNow();
+        informer.stop();
+        pending.values().forEach(completion -> completion.completeExceptionally(new CancellationException("Tracker closed")));
+        pending.clear();
+    }
+
+    private void settle(RunState run) {
+        if (run.runId() == null) {
+            return;
+        }
+        CompletableFuture<Void> completion = pending.get(run.runId());
+        if (completion == null) {
+            return;
+        }
+        try {
+            if (!isCompleted(run)) {
+                return;
+            }
+            LOGGER.debug("pipelineRun {} finished in state {}", run.runId(), run.state());
+            completion.complete(null);
+        } catch (AssertionError e) {
+            completion.completeExceptionally(e);
+        }
+        pending.remove(run.runId(), completion);
+    }
+
+    private void listPendingRuns() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Listing pipeline runs for {} pending runs", pending.size());
+        try (Stream<RunState> runs = listRuns.apply(List.copyOf(pending.keySet()))) {
+            Iterator<RunState> iterator = runs.iterator();
+            while (!pending.isEmpty() && iterator.hasNext()) {
+                settle(iterator.next());
+            }
+        } catch (RuntimeException | AssertionError e) {
+            LOGGER.warn("Listing of pipeline runs failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluates state of the run, states of workflows and of both pipeline API versions are accepted
+     *
+     * @param run state of the run
+     * @return true when the run succeeded, false when it is still in progress
+     * @throws AssertionError naming the run when the run ended in any other state
+     */
+    static boolean isCompleted(RunState run) {
+        if (run.state() == null || run.state().isEmpty()) {
+            return false; // e.g. pod has not been deployed
+        }
+        // https://github.com/kubeflow/pipelines/issues/7705
+        return switch (run.state().toUpperCase(Locale.ROOT)) {
+            case "SUCCEEDED" -> true;
+            case "PENDING", "RUNNING" -> false;
+            case "SKIPPED", "FAILED", "ERROR", "CANCELING", "CANCELED", "PAUSED" ->
+                    throw new AssertionError("Pipeline run " + run.runId() + " failed: " + run.state() + run.error());
+            default -> throw new AssertionError("Unexpected pipeline run " + run.runId() + " status: " + run.state() + run.error());
+        };
+    }
+
+    private static RunState argoState(GenericKubernetesResource workflow) {
+        return new RunState(workflow.getMetadata().getLabels().get(RUN_ID_LABEL),
+                workflow.get("status", "phase"), workflow.get("status", "message"));
+    }
+
+    private static RunState tektonState(GenericKubernetesResource pipelineRun) {
+        String runId = pipelineRun.getMetadata().getLabels().get(RUN_ID_LABEL);
+        List<Map<String, Object>> conditions = pipelineRun.get("status", "conditions");
+        if (conditions == null) {
+            return new RunState(runId, null, null);
+        }
+        Map<String, Object> succeeded = conditions.stream()
+                .filter(condition -> "Succeeded".equals(condition.get("type")))
+                .findFirst().orElse(null);
+        if (succeeded == null) {
+            return new RunState(runId, null, null);
+        }
+        String state = switch (String.valueOf(succeeded.get("status"))) {
+            case "True" -> "Succeeded";
+            case "False" -> "Failed";
+            default -> "Running";
+        };
+        return new RunState(runId, state, (String) succeeded.get("message"));
+    }
+}
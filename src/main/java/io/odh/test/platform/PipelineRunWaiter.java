@@ -0,0 +1,114 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Waits for a set of pipeline runs with one listing of finished runs per poll interval, regardless of the number
+ * of runs. The listing is filtered on the ids of the runs which are still pending, so finished runs of other tests
+ * are not paged through; the client splits ids which do not fit into one request URL into further requests.
+ * The n-th returned future completes with the n-th run which finished, so results can be consumed as they
+ * come. Futures of failed runs fail with {@link AssertionError} naming the run, futures of runs which do not finish in time fail
+ * with {@link TimeoutException}.
+ *
+ * @param <R> type of the pipeline run of the API version
+ */
+final class PipelineRunWaiter<R> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineRunWaiter.class);
+
+    private final Function<Collection<String>, Stream<R>> listFinishedRuns;
+    private final Function<R, PipelineRunTracker.RunState> state;
+    private final Duration pollInterval;
+    private final Instant deadline;
+    private final Set<String> pending;
+    private final List<CompletableFuture<R>> completions;
+    private int finished;
+
+    private PipelineRunWaiter(Collection<String> runIds, Function<Collection<String>, Stream<R>> listFinishedRuns, Function<R, PipelineRunTracker.RunState> state,
+                              Duration pollInterval, Duration timeout) {
+        this.listFinishedRuns = listFinishedRuns;
+        this.state = state;
+        this.pollInterval = pollInterval;
+        this.deadline = Instant.now().plus(timeout);
+        this.pending = new LinkedHashSet<>(runIds);
+        this.completions = Stream.generate(CompletableFuture<R>::new).limit(pending.size()).toList();
+    }
+
+    /**
+     * Starts polling of the runs
+     *
+     * @param runIds ids of the runs
+     * @param listFinishedRuns lists those of the given runs which reached a final state, all pages in one stream
+     * @param state state of the listed run
+     * @param pollInterval interval between two listings
+     * @param timeout timeout of the whole wait
+     * @return futures of finished runs in the order in which the runs finish
+     */
+    static <R> Stream<CompletableFuture<R>> waitFor(Collection<String> runIds, Function<Collection<String>, Stream<R>> listFinishedRuns,
+                                                    Function<R, PipelineRunTracker.RunState> state, Duration pollInterval, Duration timeout) {
+        PipelineRunWaiter<R> waiter = new PipelineRunWaiter<>(runIds, listFinishedRuns, state, pollInterval, timeout);
+        LOGGER.info("Waiting for: {} pipelineRuns to complete", waiter.pending.size());
+        waiter.schedule();
+        return waiter.completions.stream();
+    }
+
+    private void schedule() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (Instant.now().isAfter(deadline)) {
+            TimeoutException timeout = new TimeoutException("Timeout while waiting for pipelineRuns " + pending + " to complete");
+            completions.subList(finished, completions.size()).forEach(completion -> completion.completeExceptionally(timeout));
+            pending.clear();
+            return;
+        }
+        CompletableFuture.delayedExecutor(pollInterval.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            poll();
+            schedule();
+        });
+    }
+
+    private void poll() {
+        try (Stream<R> runs = listFinishedRuns.apply(List.copyOf(pending))) {
+            Iterator<R> iterator = runs.iterator();
+            while (!pending.isEmpty() && iterator.hasNext()) {
+                R run = iterator.next();
+                PipelineRunTracker.RunState runState = state.apply(run);
+                if (!pending.contains(runState.runId())) {
+                    continue;
+                }
+                try {
+                    if (!PipelineRunTracker.isCompleted(runState)) {
+                        continue;
+                    }
+                    pending.remove(runState.runId());
+                    completions.get(finished++).complete(run);
+                } catch (AssertionError e) {
+                    pending.remove(runState.runId());
+                    completions.get(finished++).completeExceptionally(e);
+                }
+            }
+        } catch (RuntimeException | AssertionError e) {
+            LOGGER.warn("Listing of pipeline runs failed: {}", e.getMessage());
+        }
+        LOGGER.debug("{} of {} pipelineRuns finished", finished, completions.size());
+    }
+}
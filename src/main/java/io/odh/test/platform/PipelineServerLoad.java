@@ -0,0 +1,164 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform;
+
+import io.odh.test.framework.load.LoadGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load of a pipeline server through {@link KFPv2Client}. Operations of the mix are
+ * <ul>
+ *     <li>{@value #IMPORT} - uploads the pipeline file as a new pipeline</li>
+ *     <li>{@value #RUN} - triggers a run of the given pipeline</li>
+ *     <li>{@value #LIST} - lists the first page of runs</li>
+ *     <li>{@value #DELETE} - deletes the oldest run triggered by the load, or the oldest imported pipeline when there is no run</li>
+ * </ul>
+ * Runs and pipelines created by the load are removed by {@link #cleanup()}. Operations still in flight when the
+ * cleanup starts, e.g. after the drain timeout of the generator, delete what they create themselves once they
+ * finish, and operations started after the cleanup are rejected.
+ */
+public class PipelineServerLoad {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineServerLoad.class);
+
+    public static final String IMPORT = "import";
+    public static final String RUN = "run";
+    public static final String LIST = "list";
+    public static final String DELETE = "delete";
+
+    private final KFPv2Client kfpClient;
+    private final String pipelineId;
+    private final String pipelineFile;
+    private final Map<?, ?> parameters;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final Deque<String> importedPipelines = new ConcurrentLinkedDeque<>();
+    private final Deque<String> runs = new ConcurrentLinkedDeque<>();
+    // set under the lock of this load, so no created resource is added after the cleanup took the lists
+    private volatile boolean cleanedUp;
+
+    /**
+     * @param kfpClient client of the pipeline server
+     * @param pipelineId pipeline which is run by the {@value #RUN} operation
+     * @param pipelineFile compiled pipeline uploaded by the {@value #IMPORT} operation
+     * @param parameters parameters of the runs
+     */
+    public PipelineServerLoad(KFPv2Client kfpClient, String pipelineId, String pipelineFile, Map<?, ?> parameters) {
+        this.kfpClient = kfpClient;
+        this.pipelineId = pipelineId;
+        this.pipelineFile = pipelineFile;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Creates generator of the load
+     *
+     * @param rate target rate of all operations together per second
+     * @param duration time during which operations are started
+     * @param maxConcurrency maximal number of concurrent requests
+     * @param mix weights of the operations, see {@link LoadGenerator#parseMix(String)}
+     * @return generator ready to be run
+     */
+    public LoadGenerator generator(double rate, Duration duration, int maxConcurrency, Map<String, Integer> mix) {
+        LoadGenerator generator = new LoadGenerator(rate, duration, maxConcurrency);
+        mix.forEach((name, weight) -> {
+            switch (name) {
+                case IMPORT -> generator.operation(IMPORT, weight, this::importPipeline);
+                case RUN -> generator.operation(RUN, weight, this::runPipeline);
+                case LIST -> generator.asyncOperation(LIST, weight, this::listRuns);
+                case DELETE -> generator.operation(DELETE, weight, this::delete);
+                default -> throw new IllegalArgumentException("Unknown pipeline server operation " + name);
+            }
+        });
+        return generator;
+    }
+
+    /**
+     * Deletes runs and pipelines created by the load
+     */
+    public void cleanup() {
+        synchronized (this) {
+            cleanedUp = true;
+        }
+        LOGGER.info("Deleting {} runs and {} pipelines created by the load", runs.size(), importedPipelines.size());
+        String id;
+        while ((id = runs.poll()) != null) {
+            kfpClient.deletePipelineRun(id);
+        }
+        while ((id = importedPipelines.poll()) != null) {
+            deletePipeline(id);
+        }
+    }
+
+    private boolean importPipeline() {
+        rejectAfterCleanup();
+        String name = "load-pipeline-" + counter.incrementAndGet();
+        String id = kfpClient.importPipeline(name, "pipeline-load", pipelineFile).pipelineId;
+        if (!addCreated(importedPipelines, id)) {
+            LOGGER.debug("Deleting pipeline {} imported after the cleanup", id);
+            deletePipeline(id);
+        }
+        return true;
+    }
+
+    private boolean runPipeline() {
+        rejectAfterCleanup();
+        String name = "load-run-" + counter.incrementAndGet();
+        String id = kfpClient.runPipeline(name, pipelineId, parameters, "Immediate").runId;
+        if (!addCreated(runs, id)) {
+            LOGGER.debug("Deleting run {} triggered after the cleanup", id);
+            kfpClient.deletePipelineRun(id);
+        }
+        return true;
+    }
+
+    private void rejectAfterCleanup() {
+        if (cleanedUp) {
+            throw new IllegalStateException("Pipeline server load was already cleaned up");
+        }
+    }
+
+    /**
+     * @return false when the cleanup already started and the resource has to be deleted by the caller
+     */
+    private synchronized boolean addCreated(Deque<String> created, String id) {
+        return !cleanedUp && created.add(id);
+    }
+
+    private CompletableFuture<Boolean> listRuns() {
+        rejectAfterCleanup();
+        return kfpClient.listPipelineRunsPage().thenApply(firstPage -> true);
+    }
+
+    private boolean delete() {
+        rejectAfterCleanup();
+        String runId = runs.poll();
+        if (runId != null) {
+            kfpClient.deletePipelineRun(runId);
+            return true;
+        }
+        String importedPipelineId = importedPipelines.poll();
+        if (importedPipelineId != null) {
+            deletePipeline(importedPipelineId);
+            return true;
+        }
+        return false;
+    }
+
+    private void deletePipeline(String id) {
+        for (KFPv2Client.PipelineVersion pipelineVersion : kfpClient.listPipelineVersions(id)) {
+            kfpClient.deletePipelineVersion(id, pipelineVersion.pipelineVersionId);
+        }
+        kfpClient.deletePipeline(id);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform.httpClient;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link HttpRequest.BodyPublisher} of a {@link ByteBuffer} which is never copied. Every subscription gets its own
+ * read-only view of the buffer, so one buffer can be sent by any number of concurrent requests.
+ * Unlike {@link HttpRequest.BodyPublishers#ofInputStream}, the content length is known up front.
+ */
+public class ByteBufferBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private final ByteBuffer payload;
+
+    /**
+     * @param payload body of the request, bytes between its position and limit are sent
+     */
+    public ByteBufferBodyPublisher(ByteBuffer payload) {
+        this.payload = payload.asReadOnlyBuffer();
+    }
+
+    @Override
+    public long contentLength() {
+        return payload.remaining();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private final AtomicBoolean done = new AtomicBoolean();
+
+            @Override
+            public void request(long n) {
+                if (!done.compareAndSet(false, true)) {
+                    return;
+                }
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("Non-positive request " + n));
+                    return;
+                }
+                subscriber.onNext(payload.duplicate());
+                subscriber.onComplete();
+            }
+
+            @Override
+            public void cancel() {
+                done.set(true);
+            }
+        });
+    }
+}
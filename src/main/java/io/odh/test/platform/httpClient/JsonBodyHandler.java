@@ -0,0 +1,188 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform.httpClient;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+
+/**
+ * {@link HttpResponse.BodyHandler} which deserializes JSON response while it is being received.
+ * Bytes of the response are fed into Jackson non-blocking parser as they arrive, so the body is never held as a whole
+ * in memory. Values of skipped fields, e.g. large embedded manifests, are not copied into the token buffer and not
+ * deserialized. The parser itself still buffers every scalar token in full, so a large string value is held in memory
+ * while it is parsed, only it is not kept afterwards.
+ * Skipped fields are given by their path from the root, field names joined by dots with array elements left out,
+ * e.g. {@code runs.pipeline_spec.workflow_manifest} skips the manifest of every run in the list, while fields with
+ * the same name elsewhere, like user pipeline parameters, are kept.
+ * Responses with other status than 200 fail with {@link AssertionError} carrying the response body.
+ *
+ * @param <T> type of the deserialized body
+ */
+public class JsonBodyHandler<T> implements HttpResponse.BodyHandler<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final Set<String> skippedFields;
+    // last names of the skipped paths, so the path is built only for fields which may be skipped
+    private final Set<String> skippedNames;
+
+    /**
+     * @param objectMapper mapper used for deserialization
+     * @param type type of the body
+     * @param skippedFields paths of fields whose values are dropped, e.g. {@code runs.run_details.task_details}
+     */
+    public JsonBodyHandler(ObjectMapper objectMapper, Class<T> type, Set<String> skippedFields) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.skippedFields = skippedFields;
+        this.skippedNames = skippedFields.stream()
+                .map(path -> path.substring(path.lastIndexOf('.') + 1))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Sends the request without blocking and deserializes the response body
+     *
+     * @param httpClient client used for the request
+     * @param request request to send
+     * @param objectMapper mapper used for deserialization
+     * @param type type of the body
+     * @param skippedFields paths of fields whose values are not deserialized
+     * @return future of the body, failed with {@link AssertionError} when the response status is not 200
+     */
+    public static <T> CompletableFuture<T> sendAsync(HttpClient httpClient, HttpRequest request, ObjectMapper objectMapper,
+                                                     Class<T> type, Set<String> skippedFields) {
+        return httpClient.sendAsync(request, new JsonBodyHandler<>(objectMapper, type, skippedFields)).thenApply(HttpResponse::body);
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+        if (responseInfo.statusCode() != 200) {
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), body -> {
+                Assertions.assertEquals(200, responseInfo.statusCode(), body);
+                return null;
+            });
+        }
+        try {
+            return new JsonBodySubscriber();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private final class JsonBodySubscriber implements HttpResponse.BodySubscriber<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final JsonParser parser;
+        private final TokenBuffer tokens;
+        private Flow.Subscription subscription;
+        // depth of the skipped structured value, 0 when not skipping
+        private int skippedDepth;
+        private boolean skipNextValue;
+
+        JsonBodySubscriber() throws IOException {
+            this.parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+            this.tokens = new TokenBuffer(parser, objectMapper.getDeserializationContext());
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            try {
+                for (ByteBuffer buffer : buffers) {
+                    ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(buffer);
+                    drain();
+                }
+                subscription.request(1);
+            } catch (IOException | RuntimeException e) {
+                subscription.cancel();
+                result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            try {
+                parser.getNonBlockingInputFeeder().endOfInput();
+                drain();
+                try (JsonParser buffered = tokens.asParser(objectMapper)) {
+                    result.complete(objectMapper.readValue(buffered, type));
+                }
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (skippedDepth > 0) {
+                    if (token.isStructStart()) {
+                        skippedDepth++;
+                    } else if (token.isStructEnd()) {
+                        skippedDepth--;
+                    }
+                } else if (skipNextValue) {
+                    skipNextValue = false;
+                    if (token.isStructStart()) {
+                        skippedDepth = 1;
+                    }
+                } else if (token == JsonToken.FIELD_NAME && skippedNames.contains(parser.currentName())
+                        && skippedFields.contains(currentPath())) {
+                    skipNextValue = true;
+                } else {
+                    tokens.copyCurrentEvent(parser);
+                }
+            }
+        }
+
+        /**
+         * @return names of the current field and of the fields enclosing it, joined by dots
+         */
+        private String currentPath() {
+            Deque<String> names = new ArrayDeque<>();
+            for (JsonStreamContext context = parser.getParsingContext(); context != null; context = context.getParent()) {
+                if (context.inObject() && context.getCurrentName() != null) {
+                    names.addFirst(context.getCurrentName());
+                }
+            }
+            return String.join(".", names);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform.httpClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iterator over items of a paginated list endpoint which follows next page tokens.
+ * The next page is requested as soon as the caller starts consuming the current one, so fetching overlaps
+ * with processing while at most two pages are held in memory.
+ *
+ * @param <P> type of the page response
+ * @param <T> type of the items
+ */
+public final class PageIterator<P, T> implements Iterator<T> {
+
+    private final Function<String, CompletableFuture<P>> fetchPage;
+    private final Function<P, List<T>> items;
+    private final Function<P, String> nextPageToken;
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<P> next;
+
+    /**
+     * Creates the iterator and requests the first page
+     *
+     * @param fetchPage requests page with given token, null token for the first page
+     * @param items items of the page, may return null for an empty page
+     * @param nextPageToken token of the next page, null or empty for the last page
+     */
+    public PageIterator(Function<String, CompletableFuture<P>> fetchPage, Function<P, List<T>> items, Function<P, String> nextPageToken) {
+        this.fetchPage = fetchPage;
+        this.items = items;
+        this.nextPageToken = nextPageToken;
+        this.next = fetchPage.apply(null);
+    }
+
+    /**
+     * Stream over all items, closing the stream cancels the prefetched page
+     */
+    public static <P, T> Stream<T> stream(Function<String, CompletableFuture<P>> fetchPage, Function<P, List<T>> items,
+                                          Function<P, String> nextPageToken) {
+        PageIterator<P, T> iterator = new PageIterator<>(fetchPage, items, nextPageToken);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::cancel);
+    }
+
+    /**
+     * Collects items of all pages without blocking, pages are requested one after another
+     */
+    public static <P, T> CompletableFuture<List<T>> collect(Function<String, CompletableFuture<P>> fetchPage, Function<P, List<T>> items,
+                                                            Function<P, String> nextPageToken) {
+        return collect(fetchPage, items, nextPageToken, null, new ArrayList<>());
+    }
+
+    private static <P, T> CompletableFuture<List<T>> collect(Function<String, CompletableFuture<P>> fetchPage, Function<P, List<T>> items,
+                                                             Function<P, String> nextPageToken, String token, List<T> result) {
+        return fetchPage.apply(token).thenCompose(page -> {
+            List<T> pageItems = items.apply(page);
+            if (pageItems != null) {
+                result.addAll(pageItems);
+            }
+            String nextToken = nextPageToken.apply(page);
+            return isLastPage(nextToken)
+                    ? CompletableFuture.completedFuture(result)
+                    : collect(fetchPage, items, nextPageToken, nextToken, result);
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            P page = await(next);
+            String token = nextPageToken.apply(page);
+            next = isLastPage(token) ? null : fetchPage.apply(token);
+            List<T> pageItems = items.apply(page);
+            current = pageItems == null ? Collections.emptyIterator() : pageItems.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    void cancel() {
+        if (next != null) {
+            next.cancel(true);
+            next = null;
+        }
+    }
+
+    private static boolean isLastPage(String token) {
+        return token == null || token.isEmpty();
+    }
+
+    private static <P> P await(CompletableFuture<P> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            // keep assertion errors of the page request visible as they are
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.platform.httpClient;
+
+import io.odh.test.TestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Request bodies encoded once and shared by all requests. Payloads are held in read-only direct buffers,
+ * so high-rate inference calls neither re-read resources nor copy the bytes before they reach the socket.
+ * Payloads are keyed by name, classpath resources by their path and generated variants, e.g. tensors
+ * of different shapes, by a name chosen by the caller.
+ */
+public class PayloadCache {
+
+    private static PayloadCache instance;
+
+    private final Map<String, ByteBuffer> payloads = new ConcurrentHashMap<>();
+
+    public static synchronized PayloadCache getInstance() {
+        if (instance == null) {
+            instance = new PayloadCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns content of a classpath resource, the resource is read only on the first call
+     *
+     * @param resource path of the resource
+     * @return read-only view of the content
+     */
+    public ByteBuffer payload(String resource) {
+        return payload(resource, () -> {
+            try (InputStream stream = TestUtils.getFileFromResourceAsStream(resource)) {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns payload of given name, the encoder is called only on the first call
+     *
+     * @param name name of the payload
+     * @param encoder creates bytes of the payload
+     * @return read-only view of the payload
+     */
+    public ByteBuffer payload(String name, Supplier<byte[]> encoder) {
+        return payloads.computeIfAbsent(name, key -> {
+            byte[] bytes = encoder.get();
+            return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+        }).duplicate();
+    }
+
+    /**
+     * Returns publisher of a classpath resource for request builders
+     *
+     * @param resource path of the resource
+     * @return publisher which sends the cached content without copying it
+     */
+    public HttpRequest.BodyPublisher publisher(String resource) {
+        return new ByteBufferBodyPublisher(payload(resource));
+    }
+
+    /**
+     * Drops all payloads, e.g. after a load run with many large variants
+     */
+    public void clear() {
+        payloads.clear();
+    }
+}
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.PodCondition;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentCondition;
 import io.odh.test.TestConstants;
+import io.odh.test.framework.wait.BackoffWait;
 import io.skodjob.testframe.resources.KubeResourceManager;
 import io.skodjob.testframe.utils.PodUtils;
 import io.skodjob.testframe.wait.Wait;
@@ -70,7 +71,7 @@ public class DeploymentUtils {
     public static boolean waitForDeploymentReady(String namespaceName, String deploymentName) {
         LOGGER.info("Waiting for Deployment: {}/{} to be ready", namespaceName, deploymentName);
 
-        Wait.until("readiness of Deployment: " + namespaceName + "/" + deploymentName,
+        BackoffWait.until("readiness of Deployment: " + namespaceName + "/" + deploymentName,
             TestConstants.GLOBAL_POLL_INTERVAL_SHORT, READINESS_TIMEOUT,
             () -> KubeResourceManager.getKubeClient().getClient().apps().deployments().inNamespace(namespaceName).withName(deploymentName).isReady(),
             () -> DeploymentUtils.logCurrentDeploymentStatus(KubeResourceManager.getKubeClient().getClient().apps()
@@ -138,7 +139,7 @@ public class DeploymentUtils {
 
     public static Map<String, String> waitTillDepHasRolled(String namespaceName, String deploymentName, Map<String, String> snapshot) {
         LOGGER.info("Waiting for Deployment: {}/{} rolling update", namespaceName, deploymentName);
-        Wait.until("rolling update of Deployment " + namespaceName + "/" + deploymentName,
+        BackoffWait.until("rolling update of Deployment " + namespaceName + "/" + deploymentName,
                 TestConstants.GLOBAL_POLL_INTERVAL_MEDIUM, TestConstants.GLOBAL_TIMEOUT,
                 () -> depHasRolled(namespaceName, deploymentName, snapshot));
 
@@ -5,24 +5,44 @@
 package io.odh.test.utils;
 
 import io.odh.test.TestConstants;
+import io.odh.test.framework.wait.BackoffWait;
 import io.skodjob.testframe.resources.KubeResourceManager;
-import io.skodjob.testframe.wait.Wait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class NamespaceUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NamespaceUtils.class);
     private static final long DELETION_TIMEOUT = Duration.ofMinutes(2).toMillis();
+    private static final String PARALLEL_EXECUTION_PROPERTY = "junit.jupiter.execution.parallel.enabled";
+    private static final int MAX_NAME_LENGTH = 63;
+    private static final int SUFFIX_LENGTH = 6;
 
     private NamespaceUtils() { }
 
+    /**
+     * Returns namespace name for a test class. When test classes run in parallel, the name gets a random suffix,
+     * so two classes (or two test runs against one cluster) never share a namespace.
+     * @param baseName name used when the test classes run sequentially
+     * @return namespace name
+     */
+    public static String allocateName(String baseName) {
+        if (!Boolean.parseBoolean(System.getProperty(PARALLEL_EXECUTION_PROPERTY))) {
+            return baseName;
+        }
+        String suffix = String.format("-%05x", ThreadLocalRandom.current().nextInt(0x100000));
+        String name = baseName.substring(0, Math.min(baseName.length(), MAX_NAME_LENGTH - SUFFIX_LENGTH)) + suffix;
+        LOGGER.info("Allocated Namespace: {} for {}", name, baseName);
+        return name;
+    }
+
     public static void waitForNamespaceDeletion(String name) {
         LOGGER.info("Waiting for Namespace: {} deletion", name);
 
-        Wait.until("Namespace: " + name, TestConstants.GLOBAL_POLL_INTERVAL_SHORT, DELETION_TIMEOUT,
+        BackoffWait.until("Namespace: " + name, TestConstants.GLOBAL_POLL_INTERVAL_SHORT, DELETION_TIMEOUT,
             () -> KubeResourceManager.getKubeClient().getClient().namespaces().withName(name).get() == null);
         LOGGER.info("Namespace: {} was deleted", name);
     }
@@ -4,29 +4,62 @@
  */
 package io.odh.test.utils;
 
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.odh.test.OdhConstants;
 import io.odh.test.TestConstants;
+import io.odh.test.framework.logs.PodLogAnalyzer;
+import io.odh.test.framework.matchers.LogIgnoreList;
+import io.odh.test.framework.matchers.LogScanner;
 import io.skodjob.testframe.resources.KubeResourceManager;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.time.Instant;
+import java.util.List;
 
-import static io.odh.test.framework.matchers.Matchers.logHasNoUnexpectedErrors;
+import static io.odh.test.framework.matchers.Matchers.logStreamHasNoUnexpectedErrors;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class UpgradeUtils {
 
     public static void deploymentLogIsErrorEmpty(String namespace, String deploymentName, Instant sinceTimestamp) {
         // Check that operator doesn't contain errors in logs since sec
-        String operatorLog = KubeResourceManager.getKubeClient().getClient().apps().deployments()
-                .inNamespace(namespace).withName(deploymentName).sinceTime(TestConstants.TIMESTAMP_DATE_FORMAT.format(sinceTimestamp)).getLog();
-
-        assertThat(operatorLog, logHasNoUnexpectedErrors());
+        try (Reader operatorLog = KubeResourceManager.getKubeClient().getClient().apps().deployments()
+                .inNamespace(namespace).withName(deploymentName).sinceTime(TestConstants.TIMESTAMP_DATE_FORMAT.format(sinceTimestamp)).getLogReader()) {
+            assertThat(operatorLog, logStreamHasNoUnexpectedErrors());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public static void deploymentLogIsErrorEmpty(String namespace, String deploymentName) {
         // Check that operator doesn't contain errors in logs
-        String operatorLog = KubeResourceManager.getKubeClient().getClient().apps().deployments()
-                .inNamespace(namespace).withName(deploymentName).getLog();
+        try (Reader operatorLog = KubeResourceManager.getKubeClient().getClient().apps().deployments()
+                .inNamespace(namespace).withName(deploymentName).getLogReader()) {
+            assertThat(operatorLog, logStreamHasNoUnexpectedErrors());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Checks logs of the operator pods and of all controller pods in parallel. Operator pods are selected by labels
+     * of the operator deployment, because the operator namespace may be shared with other operators.
+     *
+     * @param operatorNamespace namespace of the operator deployment
+     * @param operatorDeploymentName name of the operator deployment
+     * @param sinceTimestamp only log lines after this instant are checked
+     */
+    public static void operatorLogsAreErrorEmpty(String operatorNamespace, String operatorDeploymentName, Instant sinceTimestamp) {
+        KubernetesClient client = KubeResourceManager.getKubeClient().getClient();
+        LabelSelector operatorSelector = client.apps().deployments().inNamespace(operatorNamespace).withName(operatorDeploymentName)
+                .get().getSpec().getSelector();
+        PodLogAnalyzer analyzer = new PodLogAnalyzer(client,
+                new LogScanner(LogIgnoreList.fromEnvironment()), PodLogAnalyzer.DEFAULT_PARALLELISM, PodLogAnalyzer.DEFAULT_ERRORS_PER_CONTAINER);
+        PodLogAnalyzer.Report report = analyzer.analyzePods(List.of(PodLogAnalyzer.PodSelection.allIn(OdhConstants.CONTROLLERS_NAMESPACE),
+                new PodLogAnalyzer.PodSelection(operatorNamespace, operatorSelector)), sinceTimestamp);
 
-        assertThat(operatorLog, logHasNoUnexpectedErrors());
+        assertThat(report.toString(), report.hasNoErrors());
     }
 }
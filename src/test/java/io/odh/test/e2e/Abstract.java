@@ -7,7 +7,9 @@ package io.odh.test.e2e;
 import io.odh.test.Environment;
 import io.odh.test.TestConstants;
 import io.odh.test.framework.listeners.TestExceptionCallbackListener;
+import io.odh.test.framework.manager.SharedInstallManager;
 import io.odh.test.framework.manager.requirements.AuthorinoOperator;
+import io.odh.test.framework.manager.requirements.DependencyInstaller;
 import io.odh.test.framework.manager.requirements.PipelinesOperator;
 import io.odh.test.framework.manager.requirements.ServerlessOperator;
 import io.odh.test.framework.manager.requirements.ServiceMeshOperator;
@@ -39,6 +41,8 @@ public abstract class Abstract {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Abstract.class);
 
+    private static final String OPERATOR_DEPENDENCIES = "operator-dependencies";
+
     static {
         KubeResourceManager.getInstance().setResourceTypes(
                 new NamespaceType(),
@@ -58,13 +62,18 @@ public abstract class Abstract {
 
     @BeforeAll
     void setupDependencies() {
+        // acquired first, so the operators are removed only after everything else the class created
+        SharedInstallManager.getInstance().acquireForContext();
         if (Environment.SKIP_INSTALL_OPERATOR_DEPS) {
             LOGGER.info("Operator dependencies install is skipped");
             return;
         }
-        PipelinesOperator.deployOperator();
-        ServiceMeshOperator.deployOperator();
-        ServerlessOperator.deployOperator();
-        AuthorinoOperator.deployOperator();
+        // test classes running in parallel share the operators, the first class installs them
+        SharedInstallManager.getInstance().install(OPERATOR_DEPENDENCIES, () -> new DependencyInstaller()
+                .add(PipelinesOperator.OPERATOR_NAME, PipelinesOperator::deployOperator)
+                .add(ServiceMeshOperator.OPERATOR_NAME, ServiceMeshOperator::deployOperator)
+                .add(ServerlessOperator.OPERATOR_NAME, ServerlessOperator::deployOperator)
+                .add(AuthorinoOperator.OPERATOR_NAME, AuthorinoOperator::deployOperator, ServiceMeshOperator.OPERATOR_NAME)
+                .install());
     }
 }
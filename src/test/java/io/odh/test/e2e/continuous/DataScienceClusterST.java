@@ -7,6 +7,7 @@ package io.odh.test.e2e.continuous;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.odh.test.ClusterResourceLocks;
 import io.odh.test.Environment;
 import io.odh.test.OdhConstants;
 import io.odh.test.TestSuite;
@@ -29,6 +30,8 @@ import io.skodjob.testframe.resources.KubeResourceManager;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import java.util.Objects;
 
@@ -38,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Tag(TestSuite.CONTINUOUS)
+@ResourceLock(value = ClusterResourceLocks.DSC, mode = ResourceAccessMode.READ)
 public class DataScienceClusterST extends Abstract {
 
     private static final String DS_CLUSTER_NAME = "default";
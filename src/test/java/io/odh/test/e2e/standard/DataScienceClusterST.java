@@ -6,7 +6,9 @@ package io.odh.test.e2e.standard;
 
 import io.odh.test.Environment;
 import io.odh.test.TestSuite;
+import io.odh.test.framework.manager.ResourceLeaseManager;
 import io.odh.test.framework.manager.resources.DataScienceClusterType;
+import io.odh.test.framework.manager.resources.DataScienceInitializationType;
 import io.odh.test.install.InstallTypes;
 import io.odh.test.utils.CsvUtils;
 import io.odh.test.utils.DscUtils;
@@ -26,7 +28,6 @@ import io.skodjob.annotations.Step;
 import io.skodjob.annotations.SuiteDoc;
 import io.skodjob.annotations.TestDoc;
 import io.skodjob.annotations.Label;
-import io.skodjob.testframe.resources.KubeResourceManager;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
@@ -81,10 +82,10 @@ public class DataScienceClusterST extends StandardAbstract {
         DataScienceCluster c = DscUtils.getBasicDSC(DS_PROJECT_NAME);
 
         // odh-nightly gives us a default DSCi, update that
-        KubeResourceManager.getInstance().createOrUpdateResourceWithWait(dsci);
-        KubeResourceManager.getInstance().createResourceWithWait(c);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceInitializationType(), dsci);
+        DataScienceCluster leased = ResourceLeaseManager.getInstance().acquireForContext(new DataScienceClusterType(), c);
 
-        DataScienceCluster cluster = DataScienceClusterType.dataScienceCLusterClient().withName(DS_PROJECT_NAME).get();
+        DataScienceCluster cluster = DataScienceClusterType.dataScienceCLusterClient().withName(leased.getMetadata().getName()).get();
 
         assertEquals(Kserve.ManagementState.Managed, cluster.getSpec().getComponents().getKserve().getManagementState());
         assertEquals(Codeflare.ManagementState.Managed, cluster.getSpec().getComponents().getCodeflare().getManagementState());
@@ -15,15 +15,20 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.client.OpenShiftClient;
+import io.odh.test.ClusterResourceLocks;
 import io.odh.test.Environment;
 import io.odh.test.OdhAnnotationsLabels;
 import io.odh.test.TestUtils;
+import io.odh.test.framework.manager.ResourceLeaseManager;
+import io.odh.test.framework.manager.resources.DataScienceClusterType;
+import io.odh.test.framework.manager.resources.DataScienceInitializationType;
 import io.odh.test.install.InstallTypes;
 import io.odh.test.platform.RayClient;
 import io.odh.test.platform.TlsUtils;
 import io.odh.test.platform.httpClient.OAuthToken;
 import io.odh.test.utils.CsvUtils;
 import io.odh.test.utils.DscUtils;
+import io.odh.test.utils.NamespaceUtils;
 import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
 import io.opendatahub.dscinitialization.v1.DSCInitialization;
 import io.qameta.allure.Allure;
@@ -45,10 +50,15 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
 import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -70,6 +80,8 @@ import static io.odh.test.TestConstants.GLOBAL_TIMEOUT;
         @Step(value = "Delete ODH operator and all created resources", expected = "Operator is removed and all other resources as well")
     }
 )
+@ResourceLock(ClusterResourceLocks.CLUSTER_QUEUE)
+@ResourceLock(ClusterResourceLocks.RESOURCE_FLAVOR)
 public class DistributedST extends StandardAbstract {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DistributedST.class);
@@ -95,8 +107,8 @@ public class DistributedST extends StandardAbstract {
         // Create DSC
         DataScienceCluster dsc = DscUtils.getBasicDSC(DS_PROJECT_NAME);
 
-        KubeResourceManager.getInstance().createOrUpdateResourceWithWait(dsci);
-        KubeResourceManager.getInstance().createResourceWithWait(dsc);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceInitializationType(), dsci);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceClusterType(), dsc);
     }
 
     @TestDoc(
@@ -113,7 +125,7 @@ public class DistributedST extends StandardAbstract {
     @Test
     @EnabledIf(value = "isAppWrapperDeployed", disabledReason = "Newer versions of ODH moved from AppWrapper to RayCluster and Kueue.")
     void testDistributedWorkloadWithAppWrapper() throws Exception {
-        final String projectName = "test-codeflare";
+        final String projectName = NamespaceUtils.allocateName("test-codeflare");
 
         Allure.step("Setup resources", () -> {
             Allure.step("Create namespace", () -> {
@@ -134,7 +146,7 @@ public class DistributedST extends StandardAbstract {
             });
 
             Allure.step("Create AppWrapper from yaml file", () -> {
-                AppWrapper koranteng = kubeClient.resources(AppWrapper.class).load(this.getClass().getResource("/codeflare/koranteng.yaml")).item();
+                AppWrapper koranteng = kubeClient.resources(AppWrapper.class).load(loadInNamespace("/codeflare/koranteng.yaml", projectName)).item();
                 KubeResourceManager.getInstance().createResourceWithWait(koranteng);
             });
         });
@@ -184,12 +196,12 @@ public class DistributedST extends StandardAbstract {
     @Test
     @DisabledIf(value = "isAppWrapperDeployed", disabledReason = "Older versions of ODH must use AppWrapper.")
     void testDistributedWorkloadWithKueue() throws Exception {
-        final String projectName = "test-codeflare";
+        final String projectName = NamespaceUtils.allocateName("test-codeflare");
         final String defaultFlavor = "default-flavor";
         final String clusterQueueName = "cluster-queue";
         final String localQueueName = "local-queue";
 
-        String redirectUrl = "https://ray-dashboard-koranteng-test-codeflare.apps-crc.testing/oauth/callback";
+        String redirectUrl = "https://ray-dashboard-koranteng-" + projectName + ".apps-crc.testing/oauth/callback";
         String oauthToken = Allure.step("Create OAuth Token", () -> new OAuthToken().getToken(redirectUrl));
 
         Allure.step("Setup resources", () -> {
@@ -260,7 +272,7 @@ public class DistributedST extends StandardAbstract {
             });
 
             Allure.step("Create RayServer from yaml file", () -> {
-                RayCluster koranteng = kubeClient.resources(RayCluster.class).load(this.getClass().getResource("/codeflare/koranteng_ray2.yaml")).item();
+                RayCluster koranteng = kubeClient.resources(RayCluster.class).load(loadInNamespace("/codeflare/koranteng_ray2.yaml", projectName)).item();
                 KubeResourceManager.getInstance().createResourceWithWait(koranteng);
             });
         });
@@ -294,6 +306,19 @@ public class DistributedST extends StandardAbstract {
         });
     }
 
+    /**
+     * Reads Codeflare-generated yaml and moves everything it references from the {@link #DS_PROJECT_NAME} namespace
+     * to the given one, including the generic items nested in an AppWrapper and the oauth-proxy delegate urls.
+     */
+    private InputStream loadInNamespace(String resource, String namespace) throws IOException {
+        try (InputStream stream = Objects.requireNonNull(this.getClass().getResourceAsStream(resource), resource)) {
+            String yaml = new String(stream.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("namespace: " + DS_PROJECT_NAME, "namespace: " + namespace)
+                    .replace("\"namespace\":\"" + DS_PROJECT_NAME + "\"", "\"namespace\":\"" + namespace + "\"");
+            return new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     static boolean isAppWrapperDeployed() {
         CsvUtils.Version maxOdhVersion = CsvUtils.Version.fromString("2.10.0");
         CsvUtils.Version maxRhoaiVersion = CsvUtils.Version.fromString("2.9.0");
@@ -28,7 +28,16 @@ import io.odh.test.Environment;
 import io.odh.test.OdhAnnotationsLabels;
 import io.odh.test.OdhConstants;
 import io.odh.test.TestUtils;
+import io.odh.test.framework.load.LoadSchedule;
+import io.odh.test.framework.manager.ResourceLeaseManager;
+import io.odh.test.framework.manager.resources.DataScienceClusterType;
+import io.odh.test.framework.manager.resources.DataScienceInitializationType;
+import io.odh.test.platform.InferenceBatcher;
+import io.odh.test.platform.InferenceClient;
+import io.odh.test.platform.InferenceLoad;
+import io.odh.test.platform.httpClient.PayloadCache;
 import io.odh.test.utils.DscUtils;
+import io.odh.test.utils.NamespaceUtils;
 import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
 import io.opendatahub.dscinitialization.v1.DSCInitialization;
 import io.skodjob.annotations.Contact;
@@ -58,6 +67,7 @@ import java.security.SecureRandom;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
@@ -104,8 +114,8 @@ public class ModelServingST extends StandardAbstract {
         // Create DSC
         DataScienceCluster dsc = DscUtils.getBasicDSC(DS_PROJECT_NAME);
 
-        KubeResourceManager.getInstance().createOrUpdateResourceWithWait(dsci);
-        KubeResourceManager.getInstance().createResourceWithWait(dsc);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceInitializationType(), dsci);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceClusterType(), dsc);
     }
 
     @TestDoc(
@@ -124,7 +134,7 @@ public class ModelServingST extends StandardAbstract {
     )
     @Test
     void testMultiModelServerInference() {
-        final String projectName = "multi-model-serving";
+        final String projectName = NamespaceUtils.allocateName("multi-model-serving");
         final String runtimeName = "some-runtime";
         final String modelName = "some-model";
 
@@ -253,14 +263,45 @@ public class ModelServingST extends StandardAbstract {
                 .uri(new URI("%s/infer".formatted(baseUrl)))
                 // this is the Content-Type header that `curl --data` sets by default
                 .header("Content-Type", "application/x-www-form-urlencoded")
-                .POST(HttpRequest.BodyPublishers.ofInputStream(
-                        () -> this.getClass().getClassLoader().getResourceAsStream(modelInputPath)))
+                .POST(PayloadCache.getInstance().publisher(modelInputPath))
                 .timeout(Duration.of(DEFAULT_TIMEOUT_DURATION, DEFAULT_TIMEOUT_UNIT.toChronoUnit()))
                 .build();
         HttpResponse<String> inferResponse = httpClient.send(inferRequest, HttpResponse.BodyHandlers.ofString());
 
         assertThat(inferResponse.body(), inferResponse.statusCode(), Matchers.is(200));
         assertThat(inferResponse.body(), Matchers.containsString(expectedModelOutput));
+
+        // the same inference through the v2 protocol client, the REST proxy of ModelMesh has no binary data extension
+        InferenceClient inferenceClient = new InferenceClient(httpClient, baseUrl, null, false);
+        float[] output = inferenceClient.infer(inferenceClient.readInputs(modelInputPath)).outputs().get(0).asFloats();
+        String[] expectedOutput = expectedModelOutput.substring(expectedModelOutput.indexOf('[') + 1, expectedModelOutput.lastIndexOf(']')).split(",");
+        Assertions.assertEquals(expectedOutput.length, output.length);
+        for (int i = 0; i < output.length; i++) {
+            Assertions.assertEquals(Float.parseFloat(expectedOutput[i]), output[i], 1e-4);
+        }
+
+        if (Environment.INFERENCE_LOAD_DURATION_SECONDS > 0) {
+            driveInferenceLoad(httpClient, baseUrl, modelInputPath, expectedModelOutput);
+        }
+    }
+
+    private void driveInferenceLoad(HttpClient httpClient, String baseUrl, String modelInputPath, String expectedModelOutput) {
+        LoadSchedule schedule = LoadSchedule.of(Environment.INFERENCE_LOAD_SCHEDULE, Environment.INFERENCE_LOAD_RATE,
+                Duration.ofSeconds(Environment.INFERENCE_LOAD_DURATION_SECONDS));
+        InferenceLoad load = new InferenceLoad(httpClient, PayloadCache.getInstance().payload(modelInputPath), expectedModelOutput);
+        if (Environment.INFERENCE_LOAD_BATCH_SIZE <= 1) {
+            load.model("mnist", baseUrl).generator(schedule, Environment.INFERENCE_LOAD_STREAMS).run();
+            return;
+        }
+        // the REST proxy of ModelMesh has no binary data extension
+        InferenceClient inferenceClient = new InferenceClient(httpClient, baseUrl, null, false);
+        try (InferenceBatcher batcher = new InferenceBatcher(inferenceClient, Environment.INFERENCE_LOAD_BATCH_SIZE,
+                Duration.of(Environment.INFERENCE_LOAD_BATCH_DELAY_MICROS, ChronoUnit.MICROS))) {
+            load.batchedModel("mnist-batched", batcher, inferenceClient.readInputs(modelInputPath))
+                    .generator(schedule, Environment.INFERENCE_LOAD_STREAMS)
+                    .run();
+            LOGGER.info("Batching of the inference load: {}", batcher);
+        }
     }
 
     private <T> T castResource(KubernetesResource value, Class<T> type) {
@@ -13,8 +13,12 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.odh.test.Environment;
 import io.odh.test.OdhAnnotationsLabels;
+import io.odh.test.framework.manager.ResourceLeaseManager;
+import io.odh.test.framework.manager.resources.DataScienceClusterType;
+import io.odh.test.framework.manager.resources.DataScienceInitializationType;
 import io.odh.test.framework.manager.resources.NotebookType;
 import io.odh.test.utils.DscUtils;
+import io.odh.test.utils.NamespaceUtils;
 import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
 import io.opendatahub.datasciencecluster.v1.DataScienceClusterBuilder;
 import io.opendatahub.datasciencecluster.v1.datascienceclusterspec.ComponentsBuilder;
@@ -73,7 +77,7 @@ public class NotebookST extends StandardAbstract {
     private static final String DS_PROJECT_NAME = "test-notebooks";
 
     private static final String NTB_NAME = "test-odh-notebook";
-    private static final String NTB_NAMESPACE = "test-odh-notebook";
+    private static final String NTB_NAMESPACE = NamespaceUtils.allocateName("test-odh-notebook");
 
     @TestDoc(
         description = @Desc("Create simple Notebook with all needed resources and see if Operator creates it properly"),
@@ -169,7 +173,7 @@ public class NotebookST extends StandardAbstract {
                 .endSpec()
                 .build();
         // Deploy DSCI,DSC
-        KubeResourceManager.getInstance().createOrUpdateResourceWithWait(dsci);
-        KubeResourceManager.getInstance().createResourceWithWait(dsc);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceInitializationType(), dsci);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceClusterType(), dsc);
     }
 }
@@ -20,9 +20,15 @@ import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.odh.test.Environment;
 import io.odh.test.OdhAnnotationsLabels;
+import io.odh.test.TestConstants;
 import io.odh.test.TestUtils;
+import io.odh.test.framework.manager.ResourceLeaseManager;
+import io.odh.test.framework.manager.resources.DataScienceClusterType;
+import io.odh.test.framework.manager.resources.DataScienceInitializationType;
 import io.odh.test.platform.KFPv1Client;
+import io.odh.test.platform.PipelineRunTracker;
 import io.odh.test.utils.DscUtils;
+import io.odh.test.utils.NamespaceUtils;
 import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
 import io.opendatahub.datasciencepipelinesapplications.v1alpha1.DataSciencePipelinesApplication;
 import io.opendatahub.datasciencepipelinesapplications.v1alpha1.DataSciencePipelinesApplicationBuilder;
@@ -84,8 +90,8 @@ public class PipelineServerST extends StandardAbstract {
         // Create DSC
         DataScienceCluster dsc = DscUtils.getBasicDSC(DS_PROJECT_NAME);
 
-        KubeResourceManager.getInstance().createOrUpdateResourceWithWait(dsci);
-        KubeResourceManager.getInstance().createResourceWithWait(dsc);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceInitializationType(), dsci);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceClusterType(), dsc);
     }
 
     @Issue("RHODS-5133")
@@ -112,7 +118,7 @@ public class PipelineServerST extends StandardAbstract {
 
         final String pipelineTestName = "pipeline-test-name";
         final String pipelineTestDesc = "pipeline-test-desc";
-        final String prjTitle = "pipeline-test";
+        final String prjTitle = NamespaceUtils.allocateName("pipeline-test");
         final String pipelineTestFilepath = "src/test/resources/pipelines/iris_pipeline_compiled.yaml";
         final String pipelineWorkflowName = "iris-pipeline";
         final String pipelineTestRunBasename = "pipeline-test-run-basename";
@@ -231,7 +237,9 @@ public class PipelineServerST extends StandardAbstract {
             KFPv1Client.PipelineRun pipelineRun = kfpv1Client.runPipeline(pipelineTestRunBasename, importedPipeline.id, "Immediate");
             Assertions.assertTrue(pipelineRun.pipelineSpec.workflowManifest.contains(pipelineWorkflowName));
 
-            kfpv1Client.waitForPipelineRun(pipelineRun.id);
+            try (PipelineRunTracker tracker = PipelineRunTracker.forClient(client, prjTitle, kfpv1Client)) {
+                tracker.waitFor(pipelineRun.id, TestConstants.GLOBAL_TIMEOUT);
+            }
 
             List<KFPv1Client.PipelineRun> statuses = kfpv1Client.getPipelineRunStatus();
             assertThat(statuses.stream()
@@ -17,13 +17,21 @@ import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.odh.test.Environment;
 import io.odh.test.OdhAnnotationsLabels;
+import io.odh.test.TestConstants;
 import io.odh.test.TestUtils;
+import io.odh.test.framework.load.LoadGenerator;
+import io.odh.test.framework.manager.ResourceLeaseManager;
+import io.odh.test.framework.manager.resources.DataScienceClusterType;
+import io.odh.test.framework.manager.resources.DataScienceInitializationType;
 import io.odh.test.install.InstallTypes;
 import io.odh.test.platform.KFPv2Client;
+import io.odh.test.platform.PipelineRunTracker;
+import io.odh.test.platform.PipelineServerLoad;
 import io.odh.test.platform.TlsUtils;
 import io.odh.test.platform.httpClient.OAuthToken;
 import io.odh.test.utils.CsvUtils;
 import io.odh.test.utils.DscUtils;
+import io.odh.test.utils.NamespaceUtils;
 import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
 import io.opendatahub.datasciencecluster.v1.DataScienceClusterBuilder;
 import io.opendatahub.datasciencecluster.v1.datascienceclusterspec.ComponentsBuilder;
@@ -63,6 +71,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -138,8 +147,8 @@ public class PipelineV2ServerST extends StandardAbstract {
                 .endSpec()
                 .build();
 
-        KubeResourceManager.getInstance().createOrUpdateResourceWithWait(dsci);
-        KubeResourceManager.getInstance().createResourceWithWait(dsc);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceInitializationType(), dsci);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceClusterType(), dsc);
     }
 
     /// ODS-2206 - Verify user can create and run a data science pipeline in DS Project
@@ -166,7 +175,7 @@ public class PipelineV2ServerST extends StandardAbstract {
     void testUserCanOperateDSv2PipelineFromDSProject() throws Exception {
         final String pipelineTestName = "pipeline-test-name";
         final String pipelineTestDesc = "pipeline-test-desc";
-        final String prjTitle = "pipeline-test";
+        final String prjTitle = NamespaceUtils.allocateName("pipeline-test");
         final String pipelineTestFilepath = "src/test/resources/pipelines/iris_pipeline_compiled_kfpv2.yaml";
         final String pipelineTestRunBasename = "pipeline-test-run-basename";
 
@@ -298,7 +307,9 @@ public class PipelineV2ServerST extends StandardAbstract {
         );
         KFPv2Client.PipelineRun pipelineRun = kfpClient.runPipeline(pipelineTestRunBasename, importedPipeline.pipelineId, parameters, "Immediate");
 
-        kfpClient.waitForPipelineRun(pipelineRun.runId);
+        try (PipelineRunTracker tracker = PipelineRunTracker.forClient(client, prjTitle, kfpClient)) {
+            tracker.waitFor(pipelineRun.runId, TestConstants.GLOBAL_TIMEOUT);
+        }
 
         List<KFPv2Client.PipelineRun> statuses = kfpClient.getPipelineRunStatus();
         assertThat(statuses.stream()
@@ -309,6 +320,21 @@ public class PipelineV2ServerST extends StandardAbstract {
         checkPipelineRunK8sDeployments(prjTitle, pipelineRun.runId);
 
         kfpClient.deletePipelineRun(pipelineRun.runId);
+
+        if (Environment.KFP_LOAD_DURATION_SECONDS > 0) {
+            Allure.step("Drive load against the pipeline server", () -> {
+                PipelineServerLoad load = new PipelineServerLoad(kfpClient, importedPipeline.pipelineId, pipelineTestFilepath, parameters);
+                try {
+                    load.generator(Environment.KFP_LOAD_RATE, Duration.ofSeconds(Environment.KFP_LOAD_DURATION_SECONDS),
+                            Environment.KFP_LOAD_CONCURRENCY, LoadGenerator.parseMix(Environment.KFP_LOAD_MIX))
+                            .drainTimeout(Duration.ofSeconds(Environment.KFP_LOAD_DRAIN_TIMEOUT_SECONDS))
+                            .run();
+                } finally {
+                    load.cleanup();
+                }
+            });
+        }
+
         for (KFPv2Client.PipelineVersion pipelineVersion : kfpClient.listPipelineVersions(importedPipeline.pipelineId)) {
             kfpClient.deletePipelineVersion(importedPipeline.pipelineId, pipelineVersion.pipelineVersionId);
         }
@@ -4,8 +4,10 @@
  */
 package io.odh.test.e2e.standard;
 
+import io.odh.test.ClusterResourceLocks;
 import io.odh.test.Environment;
 import io.odh.test.TestSuite;
+import io.odh.test.framework.manager.SharedInstallManager;
 import io.odh.test.e2e.Abstract;
 import io.odh.test.install.BundleInstall;
 import io.odh.test.install.InstallTypes;
@@ -13,6 +15,8 @@ import io.odh.test.install.OlmInstall;
 import io.skodjob.testframe.annotations.ResourceManager;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,24 +27,29 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 @Tag(TestSuite.STANDARD)
 @ResourceManager(asyncDeletion = false)
+@ResourceLock(value = ClusterResourceLocks.DSCI, mode = ResourceAccessMode.READ)
+@ResourceLock(value = ClusterResourceLocks.DSC, mode = ResourceAccessMode.READ)
 public abstract class StandardAbstract extends Abstract {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StandardAbstract.class);
 
+    private static final String OPERATOR = "odh-operator";
+
     @BeforeAll
     void setupEnvironment() throws IOException {
         if (Environment.SKIP_INSTALL_OPERATOR) {
             LOGGER.info("Operator install is skipped");
             return;
         }
+        // the operator is shared by test classes running in parallel and removed after the last one finishes
         if (Environment.OPERATOR_INSTALL_TYPE.toLowerCase(Locale.ENGLISH)
                 .equals(InstallTypes.OLM.toString().toLowerCase(Locale.ENGLISH))) {
             OlmInstall olmInstall = new OlmInstall();
-            olmInstall.create();
+            SharedInstallManager.getInstance().install(OPERATOR, olmInstall::create);
         } else if (Environment.OPERATOR_INSTALL_TYPE.toLowerCase(Locale.ENGLISH)
                 .equals(InstallTypes.BUNDLE.toString().toLowerCase(Locale.ENGLISH))) {
             BundleInstall bundleInstall = new BundleInstall();
-            bundleInstall.create();
+            SharedInstallManager.getInstance().install(OPERATOR, bundleInstall::create);
         } else {
             LOGGER.error("Unknown install type {}! You should implement it at first!", Environment.OPERATOR_INSTALL_TYPE);
             fail(String.format("Unknown install type %s! You should implement it at first!", Environment.OPERATOR_INSTALL_TYPE));
@@ -8,8 +8,12 @@ import java.util.Map;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.odh.test.ClusterResourceLocks;
 import io.odh.test.Environment;
 import io.odh.test.OdhConstants;
+import io.odh.test.framework.manager.ResourceLeaseManager;
+import io.odh.test.framework.manager.resources.DataScienceClusterType;
+import io.odh.test.framework.manager.resources.DataScienceInitializationType;
 import io.odh.test.utils.DscUtils;
 import io.odh.test.utils.NamespaceUtils;
 import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
@@ -26,6 +30,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
 import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +50,8 @@ import org.slf4j.LoggerFactory;
         named = Environment.SKIP_DEPLOY_DSCI_DSC_ENV,
         matches = "true",
         disabledReason = "Default DSCI and DSC deployed no need to run test")
+@ResourceLock(ClusterResourceLocks.DSCI)
+@ResourceLock(ClusterResourceLocks.DSC)
 public class UninstallST extends StandardAbstract {
     private static final Logger LOGGER = LoggerFactory.getLogger(UninstallST.class);
 
@@ -141,8 +148,8 @@ public class UninstallST extends StandardAbstract {
         DataScienceCluster dsc = DscUtils.getBasicDSC(DS_PROJECT_NAME);
 
         // Deploy DSCI,DSC
-        KubeResourceManager.getInstance().createOrUpdateResourceWithWait(dsci);
-        KubeResourceManager.getInstance().createResourceWithWait(dsc);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceInitializationType(), dsci);
+        ResourceLeaseManager.getInstance().acquireForContext(new DataScienceClusterType(), dsc);
     }
 
     static boolean isOdhTested() {
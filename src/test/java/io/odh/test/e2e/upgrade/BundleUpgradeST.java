@@ -126,7 +126,7 @@ public class BundleUpgradeST extends UpgradeAbstract {
 
         // Verify that NTB pods are stable
         PodUtils.waitForPodsReady(ntbNamespace, lblSelector, 1, true, () -> { });
-        // Check logs in operator pod
-        UpgradeUtils.deploymentLogIsErrorEmpty(baseBundle.getNamespace(), baseBundle.getDeploymentName(), operatorLogCheckTimestamp);
+        // Check logs in operator and controller pods
+        UpgradeUtils.operatorLogsAreErrorEmpty(baseBundle.getNamespace(), baseBundle.getDeploymentName(), operatorLogCheckTimestamp);
     }
 }
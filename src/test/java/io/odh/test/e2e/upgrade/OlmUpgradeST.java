@@ -139,8 +139,8 @@ public class OlmUpgradeST extends UpgradeAbstract {
 
         // Verify that NTB pods are stable
         PodUtils.waitForPodsReady(ntbNamespace, lblSelectorPre, 1, true, () -> { });
-        // Check logs in operator pod
-        UpgradeUtils.deploymentLogIsErrorEmpty(olmInstall.getNamespace(), olmInstall.getDeploymentName(), operatorLogCheckTimestamp);
+        // Check logs in operator and controller pods
+        UpgradeUtils.operatorLogsAreErrorEmpty(olmInstall.getNamespace(), olmInstall.getDeploymentName(), operatorLogCheckTimestamp);
 
         // RHOAIENG-10827: creating new notebooks after upgrade restarted existing notebooks
         Allure.step("Deploy another notebook after upgrade");
@@ -7,6 +7,7 @@ package io.odh.test.e2e.upgrade;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.odh.test.ClusterResourceLocks;
 import io.odh.test.OdhAnnotationsLabels;
 import io.odh.test.TestSuite;
 import io.odh.test.e2e.Abstract;
@@ -35,6 +36,7 @@ import io.opendatahub.dscinitialization.v1.DSCInitialization;
 import io.skodjob.testframe.annotations.ResourceManager;
 import io.skodjob.testframe.resources.KubeResourceManager;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.kubeflow.v1.Notebook;
 import org.kubeflow.v1.NotebookBuilder;
 
@@ -42,6 +44,8 @@ import java.io.IOException;
 
 @Tag(TestSuite.UPGRADE)
 @ResourceManager(asyncDeletion = false)
+@ResourceLock(ClusterResourceLocks.DSCI)
+@ResourceLock(ClusterResourceLocks.DSC)
 public abstract class UpgradeAbstract extends Abstract {
 
     protected void deployDsc(String name) {
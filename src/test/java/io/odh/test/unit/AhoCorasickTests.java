@@ -0,0 +1,77 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.matchers.AhoCorasick;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class AhoCorasickTests {
+
+    @Test
+    void testOverlappingLiterals() {
+        AhoCorasick automaton = AhoCorasick.builder(false)
+                .add("he", 1)
+                .add("she", 2)
+                .add("his", 4)
+                .add("hers", 8)
+                .build();
+
+        assertEquals(1 | 2, automaton.scan("ushe", 0));
+        assertEquals(1 | 2 | 8, automaton.scan("ushers", 0));
+        assertEquals(4, automaton.scan("ahisa", 0));
+        assertEquals(0, automaton.scan("h e r s", 0));
+        assertEquals(0, automaton.scan("", 0));
+    }
+
+    @Test
+    void testIgnoreCaseAndStopMask() {
+        AhoCorasick automaton = AhoCorasick.builder(true)
+                .add("Error", 1)
+                .add("exception", 2)
+                .build();
+
+        assertEquals(1 | 2, automaton.scan("ERROR: IllegalStateException", 0));
+        // scan stops after error, exception is never reached
+        assertEquals(1, automaton.scan("ERROR: IllegalStateException", 1));
+    }
+
+    @Test
+    void testAgreesWithNaiveSearch() {
+        List<String> literals = List.of("abab", "bab", "aa", "abc", "cab", "b");
+        AhoCorasick.Builder builder = AhoCorasick.builder(false);
+        for (int i = 0; i < literals.size(); i++) {
+            builder.add(literals.get(i), 1 << i);
+        }
+        AhoCorasick automaton = builder.build();
+
+        Random random = new Random(7);
+        for (int run = 0; run < 1000; run++) {
+            StringBuilder text = new StringBuilder();
+            for (int c = random.nextInt(12); c > 0; c--) {
+                text.append((char) ('a' + random.nextInt(4)));
+            }
+            int expected = 0;
+            for (int i = 0; i < literals.size(); i++) {
+                if (text.indexOf(literals.get(i)) >= 0) {
+                    expected |= 1 << i;
+                }
+            }
+            assertEquals(expected, automaton.scan(text, 0), text.toString());
+        }
+    }
+}
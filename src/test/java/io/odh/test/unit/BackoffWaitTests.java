@@ -0,0 +1,67 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.wait.BackoffWait;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import io.skodjob.testframe.wait.WaitException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class BackoffWaitTests {
+
+    @Test
+    void testFastReadyConditionFinishesBeforeCeiling() {
+        AtomicInteger checks = new AtomicInteger();
+        BackoffWait.Statistics statistics = BackoffWait.poll("third check", BackoffWait.INITIAL_POLL_INTERVAL, 5_000, 60_000,
+            () -> checks.incrementAndGet() == 3, () -> { });
+
+        assertEquals(3, statistics.attempts());
+        // 100 ms + 200 ms with jitter, far below the 5 s ceiling
+        assertThat(statistics.timeToSuccess(), lessThan(1_000L));
+    }
+
+    @Test
+    void testExceptionsCountAsNotReady() {
+        AtomicInteger checks = new AtomicInteger();
+        BackoffWait.Statistics statistics = BackoffWait.poll("flaky check", 10, 10, 60_000, () -> {
+            if (checks.incrementAndGet() < 3) {
+                throw new IllegalStateException("not yet");
+            }
+            return true;
+        }, () -> { });
+
+        assertEquals(3, statistics.attempts());
+    }
+
+    @Test
+    void testTimeoutRunsOnTimeoutAction() {
+        AtomicBoolean onTimeoutCalled = new AtomicBoolean();
+        assertThrows(WaitException.class, () -> BackoffWait.until("never ready", 200, 500, () -> false, () -> onTimeoutCalled.set(true)));
+        assertTrue(onTimeoutCalled.get());
+    }
+
+    @Test
+    void testErrorsAreNotSwallowed() {
+        assertThrows(AssertionError.class, () -> BackoffWait.until("failed run", 100, 5_000, () -> {
+            throw new AssertionError("Pipeline run failed");
+        }));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.manager.requirements.DependencyInstaller;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import io.skodjob.testframe.resources.KubeResourceManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class DependencyInstallerTests {
+
+    @Test
+    void testIndependentDependenciesRunConcurrently(ExtensionContext extensionContext) {
+        KubeResourceManager.setTestContext(extensionContext);
+        // every install waits for the other one, so sequential installation would fail
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<ExtensionContext> contexts = new CopyOnWriteArrayList<>();
+        Runnable install = () -> {
+            contexts.add(KubeResourceManager.getTestContext());
+            bothStarted.countDown();
+            try {
+                assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        new DependencyInstaller()
+            .add("first", install)
+            .add("second", install)
+            .install();
+
+        assertEquals(2, contexts.size());
+        contexts.forEach(context -> assertSame(extensionContext, context));
+    }
+
+    @Test
+    void testOrderingIsRespected() {
+        List<String> installed = new CopyOnWriteArrayList<>();
+
+        new DependencyInstaller()
+            .add("servicemesh", () -> {
+                sleep();
+                installed.add("servicemesh");
+            })
+            .add("serverless", () -> installed.add("serverless"))
+            .add("authorino", () -> installed.add("authorino"), "servicemesh")
+            .install();
+
+        assertEquals(3, installed.size());
+        assertTrue(installed.indexOf("servicemesh") < installed.indexOf("authorino"));
+    }
+
+    @Test
+    void testFailureIsPropagated() {
+        DependencyInstaller installer = new DependencyInstaller()
+            .add("broken", () -> {
+                throw new IllegalStateException("Subscription failed");
+            });
+        IllegalStateException e = assertThrows(IllegalStateException.class, installer::install);
+        assertEquals("Subscription failed", e.getMessage());
+    }
+
+    @Test
+    void testUnknownPrerequisiteIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new DependencyInstaller().add("authorino", () -> { }, "servicemesh"));
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(300);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.informers.DscConditionEvaluator;
+import io.opendatahub.datasciencecluster.v1.DataScienceCluster;
+import io.opendatahub.datasciencecluster.v1.DataScienceClusterStatus;
+import io.opendatahub.datasciencecluster.v1.datascienceclusterstatus.Conditions;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class DscConditionEvaluatorTests {
+
+    @Test
+    void testConditionsAreTrackedAcrossVersions() {
+        Map<String, String> expectations = new LinkedHashMap<>();
+        expectations.put("dashboardReady", "True");
+        expectations.put("Degraded", "False");
+        expectations.put("ReconcileComplete", "True");
+        DscConditionEvaluator evaluator = new DscConditionEvaluator(expectations);
+
+        assertFalse(evaluator.test(dsc("1", Map.of("dashboardReady", "False", "Degraded", "False"))));
+        assertThat(evaluator.getTimeline().keySet(), contains("Degraded"));
+
+        assertFalse(evaluator.test(dsc("2", Map.of("dashboardReady", "True", "Degraded", "False"))));
+        assertThat(evaluator.getTimeline().keySet(), contains("Degraded", "dashboardReady"));
+
+        assertTrue(evaluator.test(dsc("3", Map.of("dashboardReady", "True", "Degraded", "False", "ReconcileComplete", "True"))));
+        assertThat(evaluator.getTimeline().keySet(), contains("Degraded", "dashboardReady", "ReconcileComplete"));
+
+        assertFalse(evaluator.test(dsc("4", Map.of("dashboardReady", "True", "Degraded", "True", "ReconcileComplete", "True"))));
+        assertThat(evaluator.getTimeline().keySet(), contains("Degraded", "dashboardReady", "ReconcileComplete"));
+    }
+
+    @Test
+    void testSameResourceVersionIsNotReevaluated() {
+        DscConditionEvaluator evaluator = new DscConditionEvaluator(Map.of("dashboardReady", "True"));
+
+        assertFalse(evaluator.test(dsc("1", Map.of("dashboardReady", "False"))));
+        // informer recheck of an unchanged object returns the previous result
+        assertFalse(evaluator.test(dsc("1", Map.of("dashboardReady", "True"))));
+        assertTrue(evaluator.test(dsc("2", Map.of("dashboardReady", "True"))));
+    }
+
+    private static DataScienceCluster dsc(String resourceVersion, Map<String, String> statuses) {
+        List<Conditions> conditions = new ArrayList<>();
+        statuses.forEach((type, status) -> {
+            Conditions condition = new Conditions();
+            condition.setType(type);
+            condition.setStatus(status);
+            conditions.add(condition);
+        });
+        DataScienceClusterStatus status = new DataScienceClusterStatus();
+        status.setConditions(conditions);
+
+        DataScienceCluster dsc = new DataScienceCluster();
+        dsc.setMetadata(new ObjectMetaBuilder().withName("default-dsc").withResourceVersion(resourceVersion).build());
+        dsc.setStatus(status);
+        return dsc;
+    }
+}
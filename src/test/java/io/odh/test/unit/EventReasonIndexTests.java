@@ -0,0 +1,82 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.api.model.events.v1.Event;
+import io.fabric8.kubernetes.api.model.events.v1.EventBuilder;
+import io.fabric8.kubernetes.api.model.events.v1.EventListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.odh.test.OdhConstants;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.informers.EventReasonIndex;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import io.skodjob.testframe.wait.Wait;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+@EnableKubernetesMockClient
+public class EventReasonIndexTests {
+
+    private static final String NAMESPACE = OdhConstants.CLUSTER_SCOPED_EVENTS_NAMESPACE;
+    private static final String EVENTS_PATH = "/apis/events.k8s.io/v1/namespaces/" + NAMESPACE + "/events";
+    private static final String FIELD_SELECTOR = "fieldSelector=reason%3D" + OdhConstants.DSC_CREATION_SUCCESSFUL_EVENT_NAME;
+
+    private KubernetesClient kubernetesClient;
+
+    private KubernetesMockServer server;
+
+    @Test
+    void testEventIsIndexedByUid() {
+        server.expect().get().withPath(EVENTS_PATH + "?" + FIELD_SELECTOR + "&resourceVersion=0")
+            .andReturn(200, new EventListBuilder()
+                .withMetadata(new ListMetaBuilder().withResourceVersion("1").build())
+                .addToItems(event("listed", "2", "listed-uid"))
+                .build())
+            .once();
+        server.expect().get().withPath(EVENTS_PATH + "?allowWatchBookmarks=true&" + FIELD_SELECTOR + "&resourceVersion=1&timeoutSeconds=600&watch=true")
+            .andUpgradeToWebSocket()
+            .open()
+            .waitFor(500).andEmit(new WatchEvent(event("watched", "3", "watched-uid"), "ADDED"))
+            .done()
+            .once();
+
+        EventReasonIndex index = new EventReasonIndex(kubernetesClient, NAMESPACE, OdhConstants.DSC_CREATION_SUCCESSFUL_EVENT_NAME);
+        try {
+            assertTrue(index.hasEvent("listed-uid"));
+            Wait.until("DSC creation event", 100, 10_000, () -> index.hasEvent("watched-uid"));
+            assertFalse(index.hasEvent("other-uid"));
+        } finally {
+            index.stop();
+        }
+    }
+
+    private static Event event(String name, String resourceVersion, String uid) {
+        return new EventBuilder()
+            .withNewMetadata()
+            .withName(name)
+            .withNamespace(NAMESPACE)
+            .withResourceVersion(resourceVersion)
+            .endMetadata()
+            .withReason(OdhConstants.DSC_CREATION_SUCCESSFUL_EVENT_NAME)
+            .withNewRegarding()
+            .withKind("DataScienceCluster")
+            .withName("default-dsc")
+            .withUid(uid)
+            .endRegarding()
+            .build();
+    }
+}
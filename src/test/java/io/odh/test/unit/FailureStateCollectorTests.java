@@ -0,0 +1,192 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.logs.FailureStateCollector;
+import io.odh.test.framework.logs.SnapshotStore;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+@EnableKubernetesMockClient
+public class FailureStateCollectorTests {
+
+    private KubernetesClient kubernetesClient;
+
+    private KubernetesMockServer server;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testNamespacesAreCapturedIntoArchive() throws IOException {
+        expectNamespace("operator", "manager log\n");
+        expectNamespace("controllers", "dashboard log\n");
+        Path archive = tempDir.resolve("failedTest").resolve("test.tar.gz");
+
+        FailureStateCollector.Summary summary = new FailureStateCollector(kubernetesClient, 2, 1024 * 1024, Duration.ofSeconds(30))
+                .collect(archive, List.of("operator", "controllers", "operator"));
+
+        Map<String, String> entries = readArchive(archive);
+        assertEquals("manager log\n", entries.get("operator/logs/pod/manager.log"));
+        assertEquals("dashboard log\n", entries.get("controllers/logs/pod/manager.log"));
+        assertThat(entries.get(objectEntry(entries, "operator/configmaps/operator-config")), containsString("name: \"operator-config\""));
+        assertThat(entries.get(objectEntry(entries, "controllers/pods/pod")), containsString("name: \"pod\""));
+        assertFalse(entries.containsKey("skipped.txt"));
+        // pods of both namespaces have the same content and share one object, index is not counted
+        assertEquals(entries.size() - 1, summary.entries());
+        assertEquals(List.of(), summary.skipped());
+        assertFalse(summary.timedOut());
+    }
+
+    @Test
+    void testSizeBudgetTruncatesLogs() throws IOException {
+        expectNamespace("operator", "x".repeat(10_000));
+        Path archive = tempDir.resolve("test.tar.gz");
+
+        FailureStateCollector.Summary summary = new FailureStateCollector(kubernetesClient, 2, 4_000, Duration.ofSeconds(30))
+                .collect(archive, List.of("operator"));
+
+        Map<String, String> entries = readArchive(archive);
+        assertThat(summary.bytes(), lessThan(4_001L));
+        assertThat(entries.get("skipped.txt"), containsString("operator/logs/pod/manager.log (truncated after"));
+        // the prefix which fit into the budget is kept
+        assertThat(entries.get("operator/logs/pod/manager.log"), startsWith("xxxx"));
+        assertTrue(entries.get("operator/logs/pod/manager.log").length() < 4_000);
+    }
+
+    @Test
+    void testTimeBudgetStopsCapture() throws IOException {
+        server.expect().get().delay(4, TimeUnit.SECONDS).withPath("/api/v1/namespaces/slow/pods")
+            .andReturn(200, new PodListBuilder().withNewMetadata().endMetadata().build())
+            .always();
+        Path archive = tempDir.resolve("test.tar.gz");
+
+        Instant start = Instant.now();
+        FailureStateCollector.Summary summary = new FailureStateCollector(kubernetesClient, 2, 1024 * 1024, Duration.ofMillis(1500))
+                .collect(archive, List.of("slow"));
+
+        assertThat(Duration.between(start, Instant.now()), lessThan(Duration.ofMillis(3500)));
+        assertTrue(summary.timedOut());
+        assertThat(summary.skipped(), hasItem("slow/pods (timed out)"));
+        assertThat(readArchive(archive).get("skipped.txt"), containsString("slow/pods (timed out)"));
+    }
+
+    @Test
+    void testUnchangedResourcesAreReferencedFromBaseline() throws IOException {
+        SnapshotStore store = new SnapshotStore();
+        expectNamespace("operator", "first log\n");
+        Path baseline = tempDir.resolve("first.tar.gz");
+        FailureStateCollector.Summary first = new FailureStateCollector(kubernetesClient, store, 2, 1024 * 1024, Duration.ofSeconds(30))
+                .collect(baseline, List.of("operator"));
+
+        // Only the config map changes before the next failure
+        server.clearExpectations();
+        expectNamespace("operator", "second log\n", "2");
+        Path incremental = tempDir.resolve("second.tar.gz");
+        FailureStateCollector.Summary second = new FailureStateCollector(kubernetesClient, store, 2, 1024 * 1024, Duration.ofSeconds(30))
+                .collect(incremental, List.of("operator"));
+
+        assertEquals(0, first.reused());
+        assertEquals(1, second.reused());
+        Map<String, String> entries = readArchive(incremental);
+        assertEquals("second log\n", entries.get("operator/logs/pod/manager.log"));
+        assertThat(entries.get(objectEntry(entries, "operator/configmaps/operator-config")), containsString("resourceVersion: \"2\""));
+        assertThat(location(entries, "operator/configmaps/operator-config"), startsWith("second.tar.gz!objects/"));
+        assertThat(location(entries, "operator/pods/pod"), startsWith("first.tar.gz!objects/"));
+        assertFalse(entries.containsKey(objectEntry(entries, "operator/pods/pod")));
+        assertTrue(readArchive(baseline).containsKey(objectEntry(entries, "operator/pods/pod")));
+    }
+
+    private void expectNamespace(String namespace, String log) {
+        expectNamespace(namespace, log, "1");
+    }
+
+    private void expectNamespace(String namespace, String log, String configMapVersion) {
+        server.expect().get().withPath("/api/v1/namespaces/" + namespace + "/configmaps")
+            .andReturn(200, new ConfigMapListBuilder().withNewMetadata().endMetadata()
+                .addToItems(new ConfigMapBuilder().withNewMetadata().withName(namespace + "-config")
+                    .withResourceVersion(configMapVersion).endMetadata().build())
+                .build())
+            .always();
+        server.expect().get().withPath("/api/v1/namespaces/" + namespace + "/pods")
+            .andReturn(200, new PodListBuilder().withNewMetadata().endMetadata()
+                .addToItems(new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").endMetadata()
+                    .withNewSpec().addNewContainer().withName("manager").endContainer().endSpec().build())
+                .build())
+            .always();
+        server.expect().get().withPath("/api/v1/namespaces/" + namespace + "/pods/pod/log?pretty=false&container=manager")
+            .andReturn(200, log)
+            .always();
+    }
+
+    /**
+     * Location of the resource content as listed in the index, &lt;archive&gt;!objects/&lt;digest&gt;.yaml
+     */
+    private static String location(Map<String, String> entries, String key) {
+        for (String line : entries.get("index.txt").split(System.lineSeparator())) {
+            String[] columns = line.split("\t");
+            if (columns[0].equals(key)) {
+                return columns[2];
+            }
+        }
+        throw new AssertionError(key + " is not indexed");
+    }
+
+    private static String objectEntry(Map<String, String> entries, String key) {
+        String location = location(entries, key);
+        return location.substring(location.indexOf('!') + 1);
+    }
+
+    private static Map<String, String> readArchive(Path archive) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        try (InputStream file = Files.newInputStream(archive);
+             TarArchiveInputStream tar = new TarArchiveInputStream(new GZIPInputStream(file))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(tar.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
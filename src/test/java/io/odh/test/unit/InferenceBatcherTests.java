@@ -0,0 +1,188 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.load.LoadReport;
+import io.odh.test.framework.load.LoadSchedule;
+import io.odh.test.platform.InferenceBatcher;
+import io.odh.test.platform.InferenceClient;
+import io.odh.test.platform.InferenceClient.InferenceResponse;
+import io.odh.test.platform.InferenceClient.Tensor;
+import io.odh.test.platform.InferenceLoad;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class InferenceBatcherTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StubHttpServer server;
+    private String url;
+
+    // batch sizes received by the stub model server
+    private final ConcurrentLinkedQueue<Integer> batches = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubHttpServer("/v2/models/", this::infer);
+        url = server.url() + "/v2/models/";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testFullBatchesAreSentRightAway() {
+        try (InferenceBatcher batcher = new InferenceBatcher(client("sum"), 4, Duration.ofMinutes(1))) {
+            List<CompletableFuture<InferenceResponse>> responses = IntStream.range(0, 8)
+                    .mapToObj(i -> batcher.submit(List.of(sample(i, 1))))
+                    .toList();
+
+            for (int i = 0; i < responses.size(); i++) {
+                assertArrayEquals(new float[]{2 * i + 1}, responses.get(i).join().output("sum").asFloats());
+            }
+            assertEquals(List.of(4, 4), List.copyOf(batches));
+            assertEquals(2, batcher.getBatchSizes().getTotalCount());
+        }
+    }
+
+    @Test
+    void testIncompleteBatchIsSentAfterDelay() {
+        try (InferenceBatcher batcher = new InferenceBatcher(client("sum"), 100, Duration.ofMillis(50))) {
+            long start = System.nanoTime();
+            List<CompletableFuture<InferenceResponse>> responses = List.of(
+                    batcher.submit(List.of(sample(1, 2))), batcher.submit(List.of(sample(3, 2))));
+
+            assertArrayEquals(new float[]{3, 7}, responses.get(0).join().output("sum").asFloats());
+            assertArrayEquals(new float[]{7, 11}, responses.get(1).join().output("sum").asFloats());
+            assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), greaterThan(40L));
+            assertEquals(List.of(4), List.copyOf(batches));
+        }
+    }
+
+    @Test
+    void testFailureIsPropagatedToAllSamples() {
+        InferenceBatcher batcher = new InferenceBatcher(client("missing"), 10, Duration.ofMinutes(1));
+        List<CompletableFuture<InferenceResponse>> responses = List.of(
+                batcher.submit(List.of(sample(1, 1))), batcher.submit(List.of(sample(2, 1))));
+
+        // closing sends the incomplete batch
+        batcher.close();
+
+        for (CompletableFuture<InferenceResponse> response : responses) {
+            CompletionException failure = assertThrows(CompletionException.class, response::join);
+            assertInstanceOf(AssertionError.class, failure.getCause());
+        }
+        CompletionException closed = assertThrows(CompletionException.class, () -> batcher.submit(List.of(sample(3, 1))).join());
+        assertInstanceOf(IllegalStateException.class, closed.getCause());
+        assertThrows(IllegalArgumentException.class, () -> new InferenceBatcher(client("sum"), 0, Duration.ZERO));
+    }
+
+    @Test
+    void testLoadIsCoalescedIntoBatches() {
+        LoadReport report;
+        try (InferenceBatcher batcher = new InferenceBatcher(client("sum"), 10, Duration.ofMillis(20))) {
+            report = new InferenceLoad(HttpClient.newHttpClient(), null, null)
+                    .batchedModel("sum", batcher, List.of(sample(1, 1)))
+                    .generator(LoadSchedule.constant(200, Duration.ofMillis(500)), 0)
+                    .run();
+            assertEquals(batches.size(), batcher.getBatchSizes().getTotalCount());
+        }
+
+        assertEquals(100, report.operation("sum").completed());
+        assertEquals(100, batches.stream().mapToInt(Integer::intValue).sum());
+        assertThat(batches.size(), lessThan(50));
+    }
+
+    private InferenceClient client(String model) {
+        return new InferenceClient(HttpClient.newHttpClient(), url + model, null, true);
+    }
+
+    /**
+     * @return sample of {@code rows} rows with two elements each, consecutive numbers starting from the value
+     */
+    private static Tensor sample(float value, int rows) {
+        float[] values = new float[rows * 2];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value + i;
+        }
+        return Tensor.fp32("x", new long[]{rows, 2}, values);
+    }
+
+    /**
+     * Binary-only stub of a model which sums the rows of input {@code x}
+     */
+    private void infer(HttpExchange exchange) throws IOException {
+        byte[] request = exchange.getRequestBody().readAllBytes();
+        int headerLength = Integer.parseInt(exchange.getRequestHeaders().getFirst(InferenceClient.HEADER_CONTENT_LENGTH));
+        JsonNode header = objectMapper.readTree(request, 0, headerLength);
+        byte[] json;
+        byte[] binary = new byte[0];
+        int status = 200;
+        if (exchange.getRequestURI().getPath().endsWith("/sum/infer")) {
+            int rows = header.at("/inputs/0/shape/0").asInt();
+            batches.add(rows);
+            ByteBuffer input = ByteBuffer.wrap(request, headerLength, request.length - headerLength).slice().order(ByteOrder.LITTLE_ENDIAN);
+            int rowSize = input.remaining() / Float.BYTES / rows;
+            ByteBuffer sums = ByteBuffer.allocate(rows * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int row = 0; row < rows; row++) {
+                float sum = 0;
+                for (int i = 0; i < rowSize; i++) {
+                    sum += input.getFloat((row * rowSize + i) * Float.BYTES);
+                }
+                sums.putFloat(sum);
+            }
+            binary = sums.array();
+            ObjectNode response = objectMapper.createObjectNode().put("model_name", "sum");
+            ObjectNode output = response.putArray("outputs").addObject().put("name", "sum").put("datatype", "FP32");
+            output.putArray("shape").add(rows).add(1);
+            output.putObject("parameters").put("binary_data_size", binary.length);
+            json = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().add(InferenceClient.HEADER_CONTENT_LENGTH, String.valueOf(json.length));
+        } else {
+            status = 404;
+            json = objectMapper.writeValueAsBytes(objectMapper.createObjectNode().put("error", "model not found"));
+        }
+        exchange.sendResponseHeaders(status, json.length + binary.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(json);
+            output.write(binary);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.platform.InferenceClient;
+import io.odh.test.platform.InferenceClient.InferenceResponse;
+import io.odh.test.platform.InferenceClient.Tensor;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class InferenceClientTests {
+
+    private static final String MODEL_INPUT = "modelmesh/modelmesh-mnist-input.json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StubHttpServer server;
+    private String url;
+
+    // state of the stub model server
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile JsonNode lastHeader;
+    private volatile String lastContentType;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubHttpServer("/v2/models/", this::infer);
+        url = server.url() + "/v2/models/";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testBinaryAndJsonRequestsGiveSameOutputs() {
+        List<Tensor> inputs = List.of(Tensor.fp32("x", new long[]{2, 3}, 1, 2, 3, 4, 5, 6.5f));
+
+        InferenceResponse json = new InferenceClient(HttpClient.newHttpClient(), url + "sum", null, false).infer(inputs);
+        assertEquals("application/json", lastContentType);
+        assertEquals(6, lastHeader.at("/inputs/0/data").size());
+
+        InferenceResponse binary = new InferenceClient(HttpClient.newHttpClient(), url + "sum", null, true).infer(inputs);
+        assertEquals("application/octet-stream", lastContentType);
+        assertTrue(lastHeader.at("/inputs/0/data").isMissingNode());
+        assertEquals(24, lastHeader.at("/inputs/0/parameters/binary_data_size").asInt());
+
+        for (InferenceResponse response : List.of(json, binary)) {
+            assertEquals("sum", response.modelName());
+            assertArrayEquals(new float[]{6, 15.5f}, response.output("sum").asFloats());
+            assertArrayEquals(new long[]{2, 1}, response.output("sum").shape());
+            assertArrayEquals(new double[]{2, 2}, response.output("argmax").asDoubles());
+        }
+        assertThrows(AssertionError.class, () -> json.output("missing"));
+    }
+
+    @Test
+    void testBatchIsSentAsOneRequestAndSplitPerSample() {
+        InferenceClient client = new InferenceClient(HttpClient.newHttpClient(), url + "sum", null, true);
+
+        List<InferenceResponse> responses = client.inferBatch(List.of(
+                List.of(Tensor.fp32("x", new long[]{1, 2}, 1, 2)),
+                List.of(Tensor.fp32("x", new long[]{2, 2}, 3, 4, 5, 6)),
+                List.of(Tensor.fp32("x", new long[]{1, 2}, 8, 7))));
+
+        assertEquals(1, requests.get());
+        assertEquals(4, lastHeader.at("/inputs/0/shape/0").asInt());
+        assertEquals(3, responses.size());
+        assertArrayEquals(new float[]{3}, responses.get(0).output("sum").asFloats());
+        assertArrayEquals(new float[]{7, 11}, responses.get(1).output("sum").asFloats());
+        assertArrayEquals(new long[]{2, 1}, responses.get(1).output("sum").shape());
+        assertArrayEquals(new double[]{0}, responses.get(2).output("argmax").asDoubles());
+
+        CompletionException mismatch = assertThrows(CompletionException.class, () -> client.inferBatchAsync(List.of(
+                List.of(Tensor.fp32("x", new long[]{1, 2}, 1, 2)),
+                List.of(Tensor.fp32("x", new long[]{1, 3}, 1, 2, 3)))).join());
+        assertInstanceOf(IllegalArgumentException.class, mismatch.getCause());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void testFixtureIsSentAsyncWithBinaryData() {
+        InferenceClient client = new InferenceClient(HttpClient.newHttpClient(), url + "sum", null, true);
+        List<Tensor> inputs = client.readInputs(MODEL_INPUT);
+        assertArrayEquals(new long[]{1, 1, 28, 28}, inputs.get(0).shape());
+        assertEquals(784 * Float.BYTES, inputs.get(0).data().remaining());
+
+        InferenceResponse response = client.inferAsync(inputs).join();
+
+        float sum = 0;
+        for (float value : inputs.get(0).asFloats()) {
+            sum += value;
+        }
+        assertEquals(sum, response.output("sum").asFloats()[0], 0.01);
+        assertTrue(lastHeader.at("/inputs/0/data").isMissingNode());
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> new InferenceClient(HttpClient.newHttpClient(), url + "missing", null, true).inferAsync(inputs).join());
+        assertInstanceOf(AssertionError.class, failure.getCause());
+    }
+
+    /**
+     * Sums rows of input {@code x} with shape [batch, ...], responds with the sums and the index of the largest element per row
+     */
+    private void infer(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        byte[] request = exchange.getRequestBody().readAllBytes();
+        lastContentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String headerLength = exchange.getRequestHeaders().getFirst(InferenceClient.HEADER_CONTENT_LENGTH);
+        int jsonLength = headerLength == null ? request.length : Integer.parseInt(headerLength);
+        JsonNode header = objectMapper.readTree(request, 0, jsonLength);
+        lastHeader = header;
+        if (!exchange.getRequestURI().getPath().endsWith("/sum/infer")) {
+            respond(exchange, 404, "{\"error\": \"model not found\"}".getBytes(StandardCharsets.UTF_8), null);
+            return;
+        }
+
+        JsonNode input = header.at("/inputs/0");
+        int batch = input.at("/shape/0").asInt();
+        float[] values;
+        if (headerLength != null) {
+            ByteBuffer data = ByteBuffer.wrap(request, jsonLength, request.length - jsonLength).order(ByteOrder.LITTLE_ENDIAN);
+            values = new float[data.remaining() / Float.BYTES];
+            data.asFloatBuffer().get(values);
+        } else {
+            values = new float[input.at("/data").size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = input.at("/data").get(i).floatValue();
+            }
+        }
+        int rowSize = values.length / batch;
+        float[] sums = new float[batch];
+        long[] argmax = new long[batch];
+        for (int row = 0; row < batch; row++) {
+            for (int i = 0; i < rowSize; i++) {
+                float value = values[row * rowSize + i];
+                sums[row] += value;
+                if (value > values[row * rowSize + (int) argmax[row]]) {
+                    argmax[row] = i;
+                }
+            }
+        }
+
+        ObjectNode response = objectMapper.createObjectNode().put("model_name", "sum");
+        ArrayNode outputs = response.putArray("outputs");
+        ObjectNode sumOutput = outputs.addObject().put("name", "sum").put("datatype", "FP32");
+        sumOutput.putArray("shape").add(batch).add(1);
+        ObjectNode argmaxOutput = outputs.addObject().put("name", "argmax").put("datatype", "INT64");
+        argmaxOutput.putArray("shape").add(batch);
+        if (header.at("/parameters/binary_data_output").asBoolean()) {
+            ByteBuffer binary = ByteBuffer.allocate(batch * (Float.BYTES + Long.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+            binary.asFloatBuffer().put(sums);
+            binary.position(batch * Float.BYTES).asLongBuffer().put(argmax);
+            sumOutput.putObject("parameters").put("binary_data_size", batch * Float.BYTES);
+            argmaxOutput.putObject("parameters").put("binary_data_size", batch * Long.BYTES);
+            respond(exchange, 200, objectMapper.writeValueAsBytes(response), binary.array());
+        } else {
+            ArrayNode sumData = sumOutput.putArray("data");
+            for (float sum : sums) {
+                sumData.add(sum);
+            }
+            ArrayNode argmaxData = argmaxOutput.putArray("data");
+            for (long index : argmax) {
+                argmaxData.add(index);
+            }
+            respond(exchange, 200, objectMapper.writeValueAsBytes(response), null);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] json, byte[] binary) throws IOException {
+        if (binary != null) {
+            exchange.getResponseHeaders().add(InferenceClient.HEADER_CONTENT_LENGTH, String.valueOf(json.length));
+        }
+        exchange.sendResponseHeaders(status, json.length + (binary == null ? 0 : binary.length));
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(json);
+            if (binary != null) {
+                output.write(binary);
+            }
+        }
+    }
+}
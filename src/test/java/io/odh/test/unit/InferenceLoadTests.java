@@ -0,0 +1,146 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import com.sun.net.httpserver.HttpExchange;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.load.LoadReport;
+import io.odh.test.framework.load.LoadSchedule;
+import io.odh.test.platform.InferenceLoad;
+import io.odh.test.platform.httpClient.PayloadCache;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class InferenceLoadTests {
+
+    private static final String MODEL_INPUT = "modelmesh/modelmesh-mnist-input.json";
+    private static final String MODEL_OUTPUT = "\"data\":[-8.233052,-7.7497034,-3.42368,12.363029,-12.079105,17.266596,-10.570976,0.71307594,3.321714,1.362123]";
+
+    private StubHttpServer server;
+    private String url;
+    private byte[] input;
+
+    // state of the stub inference server
+    private final AtomicInteger flakyRequests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long delay;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(MODEL_INPUT)) {
+            input = Objects.requireNonNull(stream).readAllBytes();
+        }
+        server = new StubHttpServer("/models/", this::infer);
+        url = server.url() + "/models/";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testLatenciesAndErrorsAreRecordedPerModel() {
+        LoadReport report = new InferenceLoad(HttpClient.newHttpClient(), PayloadCache.getInstance().payload(MODEL_INPUT), MODEL_OUTPUT)
+                .model("mnist", url + "mnist")
+                .model("flaky", url + "flaky")
+                .generator(LoadSchedule.constant(100, Duration.ofMillis(400)), 4)
+                .run();
+
+        LoadReport.OperationStats mnist = report.operation("mnist");
+        assertEquals(20, mnist.completed());
+        assertEquals(0, mnist.errors());
+        LoadReport.OperationStats flaky = report.operation("flaky");
+        assertEquals(10, flaky.completed());
+        assertEquals(10, flaky.errors());
+        assertEquals(0.5, report.errorRate(flaky));
+    }
+
+    @Test
+    void testConcurrentStreamsAreLimited() {
+        delay = 100;
+        LoadReport report = new InferenceLoad(HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build(), PayloadCache.getInstance().payload(MODEL_INPUT), MODEL_OUTPUT)
+                .model("mnist", url + "mnist")
+                .generator(LoadSchedule.constant(100, Duration.ofMillis(300)), 3)
+                .run();
+
+        assertEquals(30, report.operation("mnist").completed());
+        assertEquals(3, maxInFlight.get());
+    }
+
+    @Test
+    void testRequestsAreSentRegardlessOfResponses() {
+        // every response takes 300 ms but a request is due every 10 ms, none of them waits for a previous one
+        delay = 300;
+        LoadReport report = new InferenceLoad(HttpClient.newHttpClient(), PayloadCache.getInstance().payload(MODEL_INPUT), MODEL_OUTPUT)
+                .model("mnist", url + "mnist")
+                .generator(LoadSchedule.constant(100, Duration.ofMillis(300)), 0)
+                .run();
+
+        LoadReport.OperationStats mnist = report.operation("mnist");
+        assertEquals(30, mnist.completed());
+        assertThat(maxInFlight.get(), greaterThan(20));
+        // requests waiting for previous responses would take 9 s in total
+        assertThat(mnist.percentileMillis(100), lessThan(3000.0));
+    }
+
+    @Test
+    void testUnexpectedOutputIsCountedAsError() {
+        LoadReport report = new InferenceLoad(HttpClient.newHttpClient(), PayloadCache.getInstance().payload(MODEL_INPUT), "\"data\":[0.0]")
+                .model("mnist", url + "mnist")
+                .generator(LoadSchedule.ramp(0, 40, Duration.ofMillis(500)), 2)
+                .run();
+
+        assertEquals(10, report.operation("mnist").errors());
+        assertEquals(0, report.operation("mnist").completed());
+    }
+
+    private void infer(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            byte[] request = exchange.getRequestBody().readAllBytes();
+            if (delay > 0) {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            }
+            boolean fail = exchange.getRequestURI().getPath().endsWith("/flaky/infer") && flakyRequests.incrementAndGet() % 2 == 0;
+            byte[] body = (fail || !Arrays.equals(request, input) ? "{\"error\": \"unavailable\"}"
+                    : "{\"outputs\": [{\"name\": \"Plus214_Output_0\", " + MODEL_OUTPUT + "}]}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(fail ? 503 : 200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.platform.KFPv1Client;
+import io.odh.test.platform.KFPv2Client;
+import io.odh.test.platform.httpClient.JsonBodyHandler;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class JsonBodyHandlerTests {
+
+    private static final String V2_RUNS = """
+            {"runs": [
+              {"run_id": "r1", "run_details": {"pipeline_context_id": "1",
+                "task_details": [{"task_id": "t1", "child_tasks": [{"pod_name": "p"}], "state": "SUCCEEDED"}, "x", 1, null]},
+                "state": "SUCCEEDED", "runtime_config": {"parameters": {"neighbors": 3, "task_details": "user value"}}},
+              {"run_id": "r2", "run_details": {"task_details": "plain"}, "state": "RUNNING"}
+            ], "total_size": 2, "next_page_token": ""}
+            """;
+
+    private static final String V1_RUNS = """
+            {"runs": [{"id": "r1", "status": "Succeeded",
+              "pipeline_spec": {"pipeline_id": "p1", "workflow_manifest": "{\\"kind\\":\\"Workflow\\",\\"spec\\":{}}"}}]}
+            """;
+
+    private StubHttpServer server;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        Map<String, String> responses = Map.of("/apis/v2beta1/runs", V2_RUNS, "/apis/v1beta1/runs", V1_RUNS, "/error", "{\"error\": \"boom\"}");
+        server = new StubHttpServer("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = responses.get(path).getBytes(StandardCharsets.UTF_8);
+            // chunked response written in small pieces, so the parser is fed in the middle of tokens
+            exchange.sendResponseHeaders(path.equals("/error") ? 500 : 200, 0);
+            try (OutputStream output = exchange.getResponseBody()) {
+                for (int i = 0; i < body.length; i += 7) {
+                    output.write(body, i, Math.min(7, body.length - i));
+                    output.flush();
+                }
+            }
+        });
+        url = server.url();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testSkippedFieldsAreDropped() {
+        KFPv2Client client = new KFPv2Client(HttpClient.newHttpClient(), url, null);
+
+        List<KFPv2Client.PipelineRun> runs = client.getPipelineRunStatus();
+
+        assertEquals(List.of("r1", "r2"), runs.stream().map(run -> run.runId).toList());
+        assertEquals(List.of("SUCCEEDED", "RUNNING"), runs.stream().map(run -> run.state).toList());
+        assertEquals("1", runs.get(0).runDetails.pipelineContextId);
+        assertNull(runs.get(0).runDetails.taskDetails);
+        assertNull(runs.get(1).runDetails.taskDetails);
+        assertEquals(Map.of("neighbors", 3, "task_details", "user value"), runs.get(0).runtimeConfig.parameters);
+    }
+
+    @Test
+    void testOnlyFieldsOnSkippedPathAreDropped() {
+        KFPv2Client client = new KFPv2Client(HttpClient.newHttpClient(), url, null);
+
+        List<KFPv2Client.PipelineRun> runs = client.streamPipelineRuns(Set.of("runs.runtime_config.parameters.task_details")).toList();
+
+        assertEquals(Map.of("neighbors", 3), runs.get(0).runtimeConfig.parameters);
+        assertEquals(4, ((List<?>) runs.get(0).runDetails.taskDetails).size());
+        assertEquals("plain", runs.get(1).runDetails.taskDetails);
+    }
+
+    @Test
+    void testNothingIsSkippedByDefault() {
+        KFPv2Client client = new KFPv2Client(HttpClient.newHttpClient(), url, null);
+
+        List<KFPv2Client.PipelineRun> runs = client.streamPipelineRuns(Set.of()).toList();
+
+        assertEquals(4, ((List<?>) runs.get(0).runDetails.taskDetails).size());
+        assertEquals("plain", runs.get(1).runDetails.taskDetails);
+    }
+
+    @Test
+    void testWorkflowManifestIsSkippedInV1Listing() {
+        KFPv1Client client = new KFPv1Client(url);
+
+        List<KFPv1Client.PipelineRun> runs = client.getPipelineRunStatus();
+
+        assertEquals("Succeeded", runs.get(0).status);
+        assertEquals("p1", runs.get(0).pipelineSpec.pipelineId);
+        assertNull(runs.get(0).pipelineSpec.workflowManifest);
+        assertNotNull(client.streamPipelineRuns(Set.of()).toList().get(0).pipelineSpec.workflowManifest);
+    }
+
+    @Test
+    void testUnexpectedStatusFailsWithBody() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/error")).build();
+        CompletionException error = assertThrows(CompletionException.class, () -> HttpClient.newHttpClient()
+                .sendAsync(request, new JsonBodyHandler<>(new KFPv2Client(null, url, null).getObjectMapper(),
+                        KFPv2Client.PipelineRun.class, Set.of()))
+                .join());
+        assertThat(error.getCause(), instanceOf(AssertionError.class));
+        assertThat(error.getCause().getMessage(), containsString("boom"));
+    }
+}
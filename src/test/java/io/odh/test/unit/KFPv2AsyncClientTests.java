@@ -0,0 +1,147 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import com.sun.net.httpserver.HttpExchange;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.platform.KFPv2AsyncClient;
+import io.odh.test.platform.KFPv2Client;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class KFPv2AsyncClientTests {
+
+    private StubHttpServer server;
+    private KFPv2AsyncClient client;
+    private final AtomicInteger ids = new AtomicInteger();
+    private final Map<String, List<String>> runStates = new ConcurrentHashMap<>();
+    private final Map<String, String> uploads = new ConcurrentHashMap<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubHttpServer("/apis/v2beta1/pipelines/upload", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String id = "pipeline-" + ids.incrementAndGet();
+            uploads.put(exchange.getRequestURI().getQuery(), body);
+            reply(exchange, 200, "{\"pipeline_id\": \"" + id + "\", \"display_name\": \"" + id + "\"}");
+        });
+        server.handle("/apis/v2beta1/pipelines", exchange -> {
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                reply(exchange, exchange.getRequestURI().getPath().endsWith("missing") ? 404 : 200, "{}");
+            } else {
+                reply(exchange, 200, "{\"pipelines\": [{\"pipeline_id\": \"p1\"}, {\"pipeline_id\": \"p2\"}], \"total_size\": 2}");
+            }
+        });
+        server.handle("/apis/v2beta1/runs", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(exchange.getRequestMethod())) {
+                KFPv2Client.PipelineRun run = client.getObjectMapper()
+                        .readValue(exchange.getRequestBody(), KFPv2Client.PipelineRun.class);
+                run.runId = "run-" + ids.incrementAndGet();
+                reply(exchange, 200, client.getObjectMapper().writeValueAsString(run));
+            } else if (path.equals("/apis/v2beta1/runs")) {
+                reply(exchange, 200, "{\"runs\": [{\"run_id\": \"r1\", \"state\": \"RUNNING\"}]}");
+            } else {
+                String runId = path.substring(path.lastIndexOf('/') + 1);
+                List<String> states = runStates.get(runId);
+                String state = states.size() > 1 ? states.remove(0) : states.get(0);
+                reply(exchange, 200, "{\"run_id\": \"" + runId + "\", \"state\": \"" + state + "\"}");
+            }
+        });
+        client = new KFPv2AsyncClient(HttpClient.newHttpClient(), server.url(), "token");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testConcurrentImportsAndRuns() throws IOException {
+        Path pipelineFile = Files.writeString(tempDir.resolve("pipeline.yaml"), "pipelineSpec: {}\n");
+
+        List<CompletableFuture<KFPv2Client.PipelineRun>> runs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int index = i;
+            runs.add(client.importPipeline("pipeline " + i, "load test", pipelineFile.toString())
+                    .thenCompose(pipeline -> client.runPipeline("run-" + index, pipeline.pipelineId, Map.of("index", index), "Immediate")));
+        }
+        CompletableFuture.allOf(runs.toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(200, uploads.size());
+        assertThat(uploads.get("name=pipeline+7&description=load+test"), containsString("pipelineSpec: {}"));
+        assertEquals(200, runs.stream().map(run -> run.join().runId).distinct().count());
+        assertEquals("run-7", runs.get(7).join().displayName);
+    }
+
+    @Test
+    void testListsAndUnexpectedStatus() {
+        assertEquals(List.of("p1", "p2"), client.listPipelines().join().stream().map(pipeline -> pipeline.pipelineId).toList());
+        assertEquals("RUNNING", client.getPipelineRunStatus().join().get(0).state);
+        client.deletePipeline("p1").join();
+
+        CompletionException error = assertThrows(CompletionException.class, () -> client.deletePipeline("missing").join());
+        assertThat(error.getCause(), instanceOf(AssertionError.class));
+    }
+
+    @Test
+    void testWaitForPipelineRun() {
+        runStates.put("succeeding", new ArrayList<>(List.of("PENDING", "RUNNING", "RUNNING", "SUCCEEDED")));
+        runStates.put("failing", new ArrayList<>(List.of("RUNNING", "FAILED")));
+        runStates.put("stuck", new ArrayList<>(List.of("RUNNING")));
+        Duration poll = Duration.ofMillis(20);
+
+        assertEquals("SUCCEEDED", client.waitForPipelineRun("succeeding", poll, Duration.ofSeconds(10)).join().state);
+        CompletionException failed = assertThrows(CompletionException.class,
+                () -> client.waitForPipelineRun("failing", poll, Duration.ofSeconds(10)).join());
+        assertThat(failed.getCause().getMessage(), containsString("Pipeline run failing failed: FAILED"));
+        CompletionException timedOut = assertThrows(CompletionException.class,
+                () -> client.waitForPipelineRun("stuck", poll, Duration.ofMillis(200)).join());
+        assertThat(timedOut.getCause(), instanceOf(TimeoutException.class));
+    }
+
+    private static void reply(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
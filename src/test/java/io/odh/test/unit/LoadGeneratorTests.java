@@ -0,0 +1,243 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import com.sun.net.httpserver.HttpExchange;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.load.LoadGenerator;
+import io.odh.test.framework.load.LoadReport;
+import io.odh.test.framework.load.LoadSchedule;
+import io.odh.test.platform.KFPv2Client;
+import io.odh.test.platform.PipelineServerLoad;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class LoadGeneratorTests {
+
+    private static final String PIPELINE_FILE = "src/test/resources/pipelines/iris_pipeline_compiled_kfpv2.yaml";
+
+    private StubHttpServer server;
+    private KFPv2Client kfpClient;
+
+    // state of the fake pipeline server
+    private final AtomicInteger ids = new AtomicInteger();
+    private final Set<String> pipelines = ConcurrentHashMap.newKeySet();
+    private final Set<String> runs = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger listings = new AtomicInteger();
+    private volatile long runDelay;
+    private volatile boolean failListing;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubHttpServer("/apis/v2beta1/", this::handle);
+        kfpClient = new KFPv2Client(HttpClient.newHttpClient(), server.url(), null);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testMixIsExecutedInProportionAndCleanedUp() {
+        PipelineServerLoad load = new PipelineServerLoad(kfpClient, "base", PIPELINE_FILE, Map.of("neighbors", 1));
+
+        LoadReport report = load.generator(100, Duration.ofSeconds(1), 8, LoadGenerator.parseMix("import=1,run=2,list=6,delete=1")).run();
+
+        assertEquals(10, report.operation(PipelineServerLoad.IMPORT).completed());
+        assertEquals(20, report.operation(PipelineServerLoad.RUN).completed());
+        assertEquals(60, report.operation(PipelineServerLoad.LIST).completed());
+        // only the first page is listed, the next one is not prefetched
+        assertEquals(60, listings.get());
+        LoadReport.OperationStats delete = report.operation(PipelineServerLoad.DELETE);
+        assertEquals(10, delete.completed() + delete.skipped());
+        assertEquals(0, report.operations().stream().mapToLong(LoadReport.OperationStats::errors).sum());
+        assertThat(report.throughput(report.operation(PipelineServerLoad.LIST)), greaterThan(15.0));
+        assertThat(report.format(), containsString("p99.9 ms"));
+
+        assertEquals(30, pipelines.size() + runs.size() + delete.completed());
+        load.cleanup();
+        assertTrue(pipelines.isEmpty());
+        assertTrue(runs.isEmpty());
+    }
+
+    @Test
+    void testLatencyIsMeasuredFromDueTime() {
+        // each run takes 100 ms but is due every 50 ms, with one thread the runs queue up
+        runDelay = 100;
+        PipelineServerLoad load = new PipelineServerLoad(kfpClient, "base", PIPELINE_FILE, null);
+
+        LoadReport report = load.generator(20, Duration.ofMillis(500), 1, Map.of(PipelineServerLoad.RUN, 1)).run();
+
+        LoadReport.OperationStats run = report.operation(PipelineServerLoad.RUN);
+        assertEquals(10, run.completed());
+        // the last run is due at 450 ms and finishes after 1000 ms, a closed loop would report about 100 ms
+        assertThat(run.latencies().getMaxValue(), greaterThan(TimeUnit.MILLISECONDS.toMicros(400)));
+        assertThat(run.percentileMillis(50), greaterThan(200.0));
+    }
+
+    @Test
+    void testRunsFinishingAfterCleanupAreDeleted() throws InterruptedException {
+        runDelay = 500;
+        PipelineServerLoad load = new PipelineServerLoad(kfpClient, "base", PIPELINE_FILE, null);
+
+        LoadReport report = load.generator(20, Duration.ofMillis(100), 0, Map.of(PipelineServerLoad.RUN, 1))
+                .drainTimeout(Duration.ofMillis(100))
+                .run();
+        load.cleanup();
+
+        // both runs were still in flight, the generator did not wait for them
+        assertEquals(0, report.operation(PipelineServerLoad.RUN).completed());
+        assertThat(report.elapsed().toMillis(), lessThan(450L));
+        for (int i = 0; i < 50 && (ids.get() < 2 || !runs.isEmpty()); i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        assertEquals(2, ids.get());
+        assertTrue(runs.isEmpty());
+    }
+
+    @Test
+    void testFailedOperationsAreCountedAsErrors() {
+        failListing = true;
+        PipelineServerLoad load = new PipelineServerLoad(kfpClient, "base", PIPELINE_FILE, null);
+
+        LoadReport report = load.generator(50, Duration.ofMillis(200), 4, Map.of(PipelineServerLoad.LIST, 1, PipelineServerLoad.DELETE, 1)).run();
+
+        assertEquals(5, report.operation(PipelineServerLoad.LIST).errors());
+        assertEquals(0, report.operation(PipelineServerLoad.LIST).completed());
+        assertEquals(5, report.operation(PipelineServerLoad.DELETE).skipped());
+        assertThat(report.elapsed().toMillis(), lessThan(5000L));
+    }
+
+    @Test
+    void testAsyncOperationsDoNotHoldThreads() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Executor delayed = CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS);
+
+        LoadReport report = new LoadGenerator(LoadSchedule.constant(200, Duration.ofMillis(500)), 0)
+                .asyncOperation("slow", 3, () -> {
+                    threads.add(Thread.currentThread());
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return CompletableFuture.supplyAsync(inFlight::decrementAndGet, delayed).thenApply(ignored -> true);
+                })
+                .asyncOperation("broken", 1, () -> {
+                    throw new IllegalStateException("not started");
+                })
+                .run();
+
+        assertEquals(75, report.operation("slow").completed());
+        assertEquals(25, report.operation("broken").errors());
+        // many operations are in flight at once, yet all of them are started by the generator thread
+        assertThat(maxInFlight.get(), greaterThan(10));
+        assertEquals(Set.of(Thread.currentThread()), threads);
+        // operations waiting for each other would take 15 s in total
+        assertThat(report.operation("slow").percentileMillis(100), lessThan(3000.0));
+        assertThat(report.operation("slow").percentileMillis(50), greaterThan(190.0));
+    }
+
+    @Test
+    void testRampScheduleIncreasesRate() {
+        LoadSchedule ramp = LoadSchedule.ramp(0, 100, Duration.ofSeconds(2));
+
+        assertEquals(100, ramp.count());
+        assertEquals(0, ramp.dueNanos(0));
+        // a quarter of the operations falls into the first half of the ramp
+        assertEquals(TimeUnit.SECONDS.toNanos(1), ramp.dueNanos(25), TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(ramp.dueNanos(99), lessThan(TimeUnit.SECONDS.toNanos(2)));
+        for (int i = 1; i < ramp.count(); i++) {
+            assertThat(ramp.dueNanos(i), greaterThan(ramp.dueNanos(i - 1)));
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), LoadSchedule.of("constant", 10, Duration.ofSeconds(1)).dueNanos(5));
+        assertThrows(IllegalArgumentException.class, () -> LoadSchedule.of("burst", 10, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testInvalidMixIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("import=1,run"));
+        assertThrows(IllegalArgumentException.class, () -> new PipelineServerLoad(kfpClient, "base", PIPELINE_FILE, null)
+                .generator(1, Duration.ofSeconds(1), 1, Map.of("upgrade", 1)));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring("/apis/v2beta1".length());
+        exchange.getRequestBody().readAllBytes();
+        String body;
+        int status = 200;
+        if (method.equals("POST") && path.equals("/pipelines/upload")) {
+            String id = "pipeline-" + ids.incrementAndGet();
+            pipelines.add(id);
+            body = "{\"pipeline_id\": \"" + id + "\"}";
+        } else if (method.equals("POST") && path.equals("/runs")) {
+            sleep(runDelay);
+            String id = "run-" + ids.incrementAndGet();
+            runs.add(id);
+            body = "{\"run_id\": \"" + id + "\", \"state\": \"PENDING\"}";
+        } else if (method.equals("GET") && path.equals("/runs")) {
+            listings.incrementAndGet();
+            status = failListing ? 503 : 200;
+            body = "{\"runs\": [" + runs.stream().map(id -> "{\"run_id\": \"" + id + "\"}").collect(Collectors.joining(","))
+                    + "], \"next_page_token\": \"next\"}";
+        } else if (method.equals("GET") && path.endsWith("/versions")) {
+            body = "{\"pipeline_versions\": [{\"pipeline_version_id\": \"v1\"}]}";
+        } else if (method.equals("DELETE") && path.startsWith("/runs/")) {
+            status = runs.remove(path.substring("/runs/".length())) ? 200 : 404;
+            body = "{}";
+        } else if (method.equals("DELETE") && path.matches("/pipelines/[^/]+")) {
+            status = pipelines.remove(path.substring("/pipelines/".length())) ? 200 : 404;
+            body = "{}";
+        } else if (method.equals("DELETE") && path.contains("/versions/")) {
+            body = "{}";
+        } else {
+            status = 404;
+            body = "{}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.matchers.LogIgnoreList;
+import io.odh.test.framework.matchers.LogScanner;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import static io.odh.test.framework.matchers.Matchers.logHasNoUnexpectedErrors;
+import static io.odh.test.framework.matchers.Matchers.logStreamHasNoUnexpectedErrors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class LogScannerTests {
+
+    private static final String TIMESTAMP = "2024-05-06T07:08:09Z";
+
+    private final LogScanner scanner = new LogScanner(LogIgnoreList.of(List.of("maistra.io\" not found")));
+
+    @Test
+    void testEntriesAreEvaluatedAsWhole() {
+        String log = TIMESTAMP + "\tINFO\tstarting manager\n"
+                + TIMESTAMP + "\tINFO\treconcile failed\n"
+                + "java.lang.IllegalStateException: ignored because the entry is INFO\n"
+                + TIMESTAMP + "\tERROR\tReconciler error\t{\"error\": \"servicemeshcontrolplanes.maistra.io\" not found\"}\n"
+                + TIMESTAMP + "\tERROR\tReconciler error\n"
+                + "\tat controller.reconcile\n";
+
+        assertEquals(List.of("\tERROR\tReconciler error"), scanner.findUnexpectedErrors(new StringReader(log), 10));
+    }
+
+    @Test
+    void testNullPointerAndUnhandledException() {
+        assertEquals(List.of("java.lang.NullPointerException"),
+                scanner.findUnexpectedErrors(new StringReader(TIMESTAMP + "java.lang.NullPointerException\n"), 10));
+        assertEquals(List.of("panic: Unhandled Exception"),
+                scanner.findUnexpectedErrors(new StringReader(TIMESTAMP + "\tINFO\tok\npanic: Unhandled Exception\n"), 10));
+    }
+
+    @Test
+    void testLimitStopsScanning() {
+        String log = (TIMESTAMP + "\terror\n").repeat(5);
+        assertEquals(2, scanner.findUnexpectedErrors(new StringReader(log), 2).size());
+        assertEquals(5, scanner.findUnexpectedErrors(new StringReader(log), 10).size());
+    }
+
+    @Test
+    void testMatchersAgreeOnDefaultIgnoreList() {
+        String clean = TIMESTAMP + "\tINFO\tok\n" + TIMESTAMP + "\tERROR\t\"servicemeshcontrolplanes.maistra.io\" not found\n";
+        String broken = clean + TIMESTAMP + "\tERROR\tfailed to create deployment\n";
+
+        assertThat("", logHasNoUnexpectedErrors());
+        assertThat(clean, logHasNoUnexpectedErrors());
+        assertThat(broken, not(logHasNoUnexpectedErrors()));
+        assertThat(new StringReader(clean), logStreamHasNoUnexpectedErrors());
+        assertThat(new StringReader(broken), not(logStreamHasNoUnexpectedErrors()));
+    }
+
+    @Test
+    void testIgnoreListSplitsLiteralsAndRegexes() {
+        LogIgnoreList ignoreList = LogIgnoreList.of(List.of("a\\.b \\(nil\\)", "plain text", "timeout after [0-9]+s"));
+        assertEquals(List.of("a.b (nil)", "plain text"), ignoreList.getLiterals());
+        assertEquals("(?:timeout after [0-9]+s)", ignoreList.getRegex().pattern());
+
+        LogScanner customScanner = new LogScanner(ignoreList);
+        String log = TIMESTAMP + "\terror: a.b (nil)\n"
+                + TIMESTAMP + "\tERROR plain text\n"
+                + TIMESTAMP + "\tError: timeout after 30s\n"
+                + TIMESTAMP + "\tError: timeout after never\n";
+        assertEquals(List.of("\tError: timeout after never"), customScanner.findUnexpectedErrors(new StringReader(log), 10));
+    }
+
+    @Test
+    void testLogIsStreamed() {
+        long lines = 2_000_000;
+        Reader log = new GeneratedLog(TIMESTAMP + "\tINFO\tcontroller.datasciencecluster\tReconciling component\n", lines);
+        assertTrue(scanner.findUnexpectedErrors(log, 1).isEmpty());
+    }
+
+    /**
+     * Reader repeating one line, the log is never materialized
+     */
+    private static final class GeneratedLog extends Reader {
+        private final String line;
+        private long remaining;
+        private int position;
+
+        GeneratedLog(String line, long lines) {
+            this.line = line;
+            this.remaining = lines;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = Math.min(length, line.length() - position);
+            line.getChars(position, position + count, buffer, offset);
+            position += count;
+            if (position == line.length()) {
+                position = 0;
+                remaining--;
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.platform.KFPv2AsyncClient;
+import io.odh.test.platform.KFPv2Client;
+import io.odh.test.platform.httpClient.PageIterator;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class PageIteratorTests {
+
+    /**
+     * Page of the fake endpoint, items and token of the following page
+     */
+    private record Page(List<Integer> items, String next) {
+    }
+
+    private static final Map<String, Page> PAGES = Map.of(
+            "", new Page(List.of(1, 2), "b"),
+            "b", new Page(List.of(), "c"),
+            "c", new Page(null, "d"),
+            "d", new Page(List.of(3), ""));
+
+    @Test
+    void testNextPageIsPrefetchedWhileCurrentIsConsumed() {
+        List<String> requested = new ArrayList<>();
+        Iterator<Integer> iterator = new PageIterator<Page, Integer>(token -> {
+            requested.add(token);
+            return CompletableFuture.completedFuture(PAGES.get(token == null ? "" : token));
+        }, Page::items, Page::next);
+
+        // first page is requested right away
+        assertEquals(1, requested.size());
+        assertEquals(1, iterator.next());
+        // second page is in flight while the first one is consumed, nothing further
+        assertEquals(2, requested.size());
+        assertEquals(2, iterator.next());
+        assertEquals(2, requested.size());
+        // empty pages are skipped
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(List.of("b", "c", "d"), requested.subList(1, requested.size()));
+    }
+
+    @Test
+    void testFailedPageIsRethrown() {
+        try (Stream<Integer> stream = PageIterator.<Page, Integer>stream(token -> token == null
+                ? CompletableFuture.completedFuture(new Page(List.of(1), "b"))
+                : CompletableFuture.failedFuture(new AssertionError("expected: <200> but was: <500>")), Page::items, Page::next)) {
+            Iterator<Integer> iterator = stream.iterator();
+            assertEquals(1, iterator.next());
+            assertThrows(AssertionError.class, iterator::hasNext);
+        }
+    }
+
+    @Test
+    void testClosingStreamCancelsPrefetchedPage() {
+        CompletableFuture<Page> second = new CompletableFuture<>();
+        try (Stream<Integer> stream = PageIterator.<Page, Integer>stream(token -> token == null
+                ? CompletableFuture.completedFuture(new Page(List.of(1, 2), "b"))
+                : second, Page::items, Page::next)) {
+            assertEquals(List.of(1), stream.limit(1).toList());
+        }
+        assertTrue(second.isCancelled());
+    }
+
+    @Test
+    void testCollectFollowsAllPages() {
+        List<Integer> items = PageIterator.<Page, Integer>collect(token -> CompletableFuture.completedFuture(
+                PAGES.get(token == null ? "" : token)), Page::items, Page::next).join();
+        assertEquals(List.of(1, 2, 3), items);
+    }
+
+    @Test
+    void testKfpClientsFollowNextPageToken() throws IOException {
+        List<String> queries = new ArrayList<>();
+        try (StubHttpServer server = new StubHttpServer("/apis/v2beta1/runs", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            synchronized (queries) {
+                queries.add(query);
+            }
+            int page = query.contains("page_token=") ? Integer.parseInt(query.substring(query.indexOf("page_token=") + 11)) : 0;
+            String runs = Stream.of(0, 1).map(i -> "{\"run_id\": \"run-" + (page * 2 + i) + "\"}").collect(Collectors.joining(","));
+            byte[] body = ("{\"runs\": [" + runs + "], \"next_page_token\": \"" + (page < 2 ? String.valueOf(page + 1) : "") + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        })) {
+            String url = server.url();
+            List<String> expected = List.of("run-0", "run-1", "run-2", "run-3", "run-4", "run-5");
+
+            KFPv2Client client = new KFPv2Client(HttpClient.newHttpClient(), url, null);
+            assertEquals(expected, client.getPipelineRunStatus().stream().map(run -> run.runId).toList());
+            assertEquals(List.of("page_size=100", "page_size=100&page_token=1", "page_size=100&page_token=2"), queries);
+
+            KFPv2AsyncClient asyncClient = new KFPv2AsyncClient(HttpClient.newHttpClient(), url, null);
+            assertEquals(expected, asyncClient.getPipelineRunStatus().join().stream().map(run -> run.runId).toList());
+        }
+    }
+}
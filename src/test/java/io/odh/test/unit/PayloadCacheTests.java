@@ -0,0 +1,133 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import com.sun.net.httpserver.HttpExchange;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.platform.httpClient.ByteBufferBodyPublisher;
+import io.odh.test.platform.httpClient.PayloadCache;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class PayloadCacheTests {
+
+    private static final String MODEL_INPUT = "modelmesh/modelmesh-mnist-input.json";
+
+    private StubHttpServer server;
+    private URI uri;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubHttpServer("/echo", this::echo);
+        uri = URI.create(server.url() + "/echo");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testPayloadIsLoadedOnceIntoReadOnlyDirectBuffer() throws IOException {
+        byte[] expected;
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(MODEL_INPUT)) {
+            expected = Objects.requireNonNull(stream).readAllBytes();
+        }
+        PayloadCache cache = new PayloadCache();
+
+        ByteBuffer first = cache.payload(MODEL_INPUT);
+        ByteBuffer second = cache.payload(MODEL_INPUT);
+
+        assertTrue(first.isDirect());
+        assertTrue(first.isReadOnly());
+        assertThrows(ReadOnlyBufferException.class, () -> first.put((byte) 0));
+        // reading one view does not move the other one
+        first.get(new byte[first.remaining()]);
+        assertFalse(first.hasRemaining());
+        assertArrayEquals(expected, bytes(second));
+        assertThrows(IllegalArgumentException.class, () -> cache.payload("modelmesh/missing.json"));
+    }
+
+    @Test
+    void testVariantsAreEncodedOnce() {
+        PayloadCache cache = new PayloadCache();
+        AtomicInteger encoded = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            for (int size : List.of(1, 4, 16)) {
+                cache.payload("tensor-" + size, () -> {
+                    encoded.incrementAndGet();
+                    return new byte[size * 4];
+                });
+            }
+        }
+
+        assertEquals(3, encoded.get());
+        assertEquals(64, cache.payload("tensor-16", () -> new byte[0]).remaining());
+        cache.clear();
+        assertEquals(0, cache.payload("tensor-16", () -> new byte[0]).remaining());
+    }
+
+    @Test
+    void testPublisherIsSharedByConcurrentRequests() {
+        ByteBuffer payload = new PayloadCache().payload(MODEL_INPUT);
+        HttpRequest.BodyPublisher publisher = new ByteBufferBodyPublisher(payload);
+        assertEquals(payload.remaining(), publisher.contentLength());
+        HttpClient client = HttpClient.newHttpClient();
+
+        List<CompletableFuture<HttpResponse<byte[]>>> responses = IntStream.range(0, 20)
+                .mapToObj(i -> client.sendAsync(HttpRequest.newBuilder(uri).POST(publisher).build(),
+                        HttpResponse.BodyHandlers.ofByteArray()))
+                .toList();
+
+        byte[] expected = bytes(payload);
+        for (CompletableFuture<HttpResponse<byte[]>> response : responses) {
+            assertArrayEquals(expected, response.join().body());
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.platform.PipelineRunTracker;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+@EnableKubernetesMockClient(crud = true)
+public class PipelineRunTrackerTests {
+
+    private static final String NAMESPACE = "pipelines";
+    // long fallback interval, so the runs below can only complete on watch events
+    private static final long NO_FALLBACK = 60_000;
+
+    private KubernetesClient kubernetesClient;
+
+    @Test
+    void testRunCompletesOnWorkflowUpdate() throws Exception {
+        AtomicInteger listings = new AtomicInteger();
+        try (PipelineRunTracker tracker = new PipelineRunTracker(kubernetesClient, NAMESPACE, PipelineRunTracker.ARGO_WORKFLOWS,
+                runIds -> listed(listings), NO_FALLBACK)) {
+            CompletableFuture<Void> first = tracker.track("run-1");
+            CompletableFuture<Void> second = tracker.track("run-2");
+            workflows(PipelineRunTracker.ARGO_WORKFLOWS).resource(argoWorkflow("run-1", "Running")).create();
+            workflows(PipelineRunTracker.ARGO_WORKFLOWS).resource(argoWorkflow("run-2", "Running")).create();
+
+            TimeUnit.MILLISECONDS.sleep(500);
+            assertFalse(first.isDone());
+
+            workflows(PipelineRunTracker.ARGO_WORKFLOWS).resource(argoWorkflow("run-1", "Succeeded")).update();
+            first.get(10, TimeUnit.SECONDS);
+            assertFalse(second.isDone());
+            assertEquals(0, listings.get());
+        }
+    }
+
+    @Test
+    void testRunFinishedBeforeTrackingCompletes() throws Exception {
+        workflows(PipelineRunTracker.ARGO_WORKFLOWS).resource(argoWorkflow("run-1", "Succeeded")).create();
+        try (PipelineRunTracker tracker = new PipelineRunTracker(kubernetesClient, NAMESPACE, PipelineRunTracker.ARGO_WORKFLOWS,
+                runIds -> Stream.empty(), NO_FALLBACK)) {
+            tracker.waitFor("run-1", 10_000);
+        }
+    }
+
+    @Test
+    void testFailedWorkflowFailsRun() {
+        workflows(PipelineRunTracker.ARGO_WORKFLOWS).resource(argoWorkflow("run-1", "Error")).create();
+        try (PipelineRunTracker tracker = new PipelineRunTracker(kubernetesClient, NAMESPACE, PipelineRunTracker.ARGO_WORKFLOWS,
+                runIds -> Stream.empty(), NO_FALLBACK)) {
+            AssertionError error = assertThrows(AssertionError.class, () -> tracker.waitFor("run-1", 10_000));
+            assertThat(error.getMessage(), containsString("Pipeline run run-1 failed: Error"));
+            assertThat(error.getMessage(), containsString("pod deleted"));
+        }
+    }
+
+    @Test
+    void testTektonConditionIsEvaluated() {
+        GenericKubernetesResource pipelineRun = new GenericKubernetesResourceBuilder()
+                .withApiVersion("tekton.dev/v1").withKind("PipelineRun")
+                .withNewMetadata().withName("iris-1").withNamespace(NAMESPACE).withLabels(Map.of(PipelineRunTracker.RUN_ID_LABEL, "run-1")).endMetadata()
+                .withAdditionalProperties(Map.of("status", Map.of("conditions", List.of(
+                        Map.of("type", "Succeeded", "status", "False", "message", "task train-model failed")))))
+                .build();
+        workflows(PipelineRunTracker.TEKTON_PIPELINE_RUNS).resource(pipelineRun).create();
+        try (PipelineRunTracker tracker = new PipelineRunTracker(kubernetesClient, NAMESPACE, PipelineRunTracker.TEKTON_PIPELINE_RUNS,
+                runIds -> Stream.empty(), NO_FALLBACK)) {
+            AssertionError error = assertThrows(AssertionError.class, () -> tracker.waitFor("run-1", 10_000));
+            assertThat(error.getMessage(), containsString("task train-model failed"));
+        }
+    }
+
+    @Test
+    void testPendingRunsAreResolvedByOneListing() throws Exception {
+        AtomicInteger listings = new AtomicInteger();
+        List<Collection<String>> listedIds = new CopyOnWriteArrayList<>();
+        try (PipelineRunTracker tracker = new PipelineRunTracker(kubernetesClient, NAMESPACE, PipelineRunTracker.ARGO_WORKFLOWS,
+                runIds -> {
+                    listedIds.add(runIds);
+                    return listed(listings,
+                            new PipelineRunTracker.RunState("run-0", "RUNNING", null),
+                            new PipelineRunTracker.RunState("run-1", "SUCCEEDED", null),
+                            new PipelineRunTracker.RunState("run-2", "FAILED", ": out of memory"));
+                }, 200)) {
+            CompletableFuture<Void> first = tracker.track("run-1");
+            CompletableFuture<Void> second = tracker.track("run-2");
+
+            first.get(10, TimeUnit.SECONDS);
+            ExecutionException error = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+            assertThat(error.getCause().getMessage(), containsString("out of memory"));
+            // both runs were settled by the same listing, further intervals have nothing to list
+            TimeUnit.MILLISECONDS.sleep(500);
+            assertEquals(1, listings.get());
+            // only the pending runs were listed
+            assertEquals(Set.of("run-1", "run-2"), Set.copyOf(listedIds.get(0)));
+        }
+    }
+
+    @Test
+    void testCloseCancelsTrackedRuns() {
+        CompletableFuture<Void> completion;
+        try (PipelineRunTracker tracker = new PipelineRunTracker(kubernetesClient, NAMESPACE, PipelineRunTracker.ARGO_WORKFLOWS,
+                runIds -> Stream.empty(), NO_FALLBACK)) {
+            completion = tracker.track("run-1");
+        }
+        assertTrue(completion.isCompletedExceptionally());
+        assertThrows(CancellationException.class, completion::join);
+    }
+
+    private Stream<PipelineRunTracker.RunState> listed(AtomicInteger listings, PipelineRunTracker.RunState... runs) {
+        listings.incrementAndGet();
+        return Stream.of(runs);
+    }
+
+    private NonNamespaceOperation<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>> workflows(ResourceDefinitionContext context) {
+        return kubernetesClient.genericKubernetesResources(context).inNamespace(NAMESPACE);
+    }
+
+    private static GenericKubernetesResource argoWorkflow(String runId, String phase) {
+        return new GenericKubernetesResourceBuilder()
+                .withApiVersion("argoproj.io/v1alpha1").withKind("Workflow")
+                .withNewMetadata().withName("iris-" + runId).withNamespace(NAMESPACE).withLabels(Map.of(PipelineRunTracker.RUN_ID_LABEL, runId)).endMetadata()
+                .withAdditionalProperties(Map.of("status", Map.of("phase", phase, "message", "pod deleted")))
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.platform.KFPv1Client;
+import io.odh.test.platform.KFPv2Client;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class PipelineRunWaiterTests {
+
+    /**
+     * Finished runs listed by the fake server on the first, second and any later listing
+     */
+    private static final List<String> LISTINGS = List.of(
+            "{\"runs\": [{\"run_id\": \"other\", \"state\": \"FAILED\"}, {\"run_id\": \"run-2\", \"state\": \"SUCCEEDED\"}]}",
+            "{\"runs\": [{\"run_id\": \"run-3\", \"state\": \"FAILED\", \"error\": \": image pull\"}, {\"run_id\": \"run-2\", \"state\": \"SUCCEEDED\"}],"
+                    + " \"next_page_token\": \"2\"}",
+            "{\"runs\": [{\"run_id\": \"run-1\", \"state\": \"SUCCEEDED\"}]}");
+
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private final List<Integer> rawQueryLengths = new CopyOnWriteArrayList<>();
+    private StubHttpServer server;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubHttpServer("/", exchange -> {
+            String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+            queries.add(exchange.getRequestURI().getPath() + "?" + query);
+            rawQueryLengths.add(exchange.getRequestURI().getRawQuery().length());
+            byte[] body = LISTINGS.get(Math.min(queries.size() - 1, LISTINGS.size() - 1)).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        url = server.url();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testRunsCompleteInOrderOfFinishing() throws Exception {
+        KFPv2Client client = new KFPv2Client(HttpClient.newHttpClient(), url, null);
+
+        List<CompletableFuture<KFPv2Client.PipelineRun>> completions = client.waitForPipelineRuns(
+                List.of("run-1", "run-2", "run-3"), Duration.ofMillis(100), Duration.ofSeconds(10)).toList();
+
+        assertEquals("run-2", completions.get(0).get(10, TimeUnit.SECONDS).runId);
+        ExecutionException failed = assertThrows(ExecutionException.class, () -> completions.get(1).get(10, TimeUnit.SECONDS));
+        assertThat(failed.getCause().getMessage(), containsString("Pipeline run run-3 failed: FAILED: image pull"));
+        assertEquals("run-1", completions.get(2).get(10, TimeUnit.SECONDS).runId);
+
+        // one listing per interval, the second listing had two pages
+        assertEquals(3, queries.size());
+        assertThat(queries.get(0), containsString("filter={\"predicates\":[{\"key\":\"state\",\"operation\":\"IN\""));
+        assertThat(queries.get(0), containsString("{\"key\":\"run_id\",\"operation\":\"IN\",\"string_values\":{\"values\":[\"run-1\",\"run-2\",\"run-3\"]}}"));
+        // finished runs are no longer listed
+        assertThat(queries.get(1), containsString("\"values\":[\"run-1\",\"run-3\"]"));
+        assertThat(queries.get(2), containsString("page_token=2"));
+    }
+
+    @Test
+    void testRunsWhichDoNotFinishTimeOut() throws Exception {
+        KFPv2Client client = new KFPv2Client(HttpClient.newHttpClient(), url, null);
+
+        List<CompletableFuture<KFPv2Client.PipelineRun>> completions = client.waitForPipelineRuns(
+                List.of("run-2", "never"), Duration.ofMillis(100), Duration.ofMillis(500)).toList();
+
+        assertEquals("run-2", completions.get(0).get(10, TimeUnit.SECONDS).runId);
+        ExecutionException timeout = assertThrows(ExecutionException.class, () -> completions.get(1).get(10, TimeUnit.SECONDS));
+        assertThat(timeout.getCause(), instanceOf(TimeoutException.class));
+        assertThat(timeout.getCause().getMessage(), containsString("[never]"));
+    }
+
+    @Test
+    void testV1ListingIsFilteredByStatus() throws Exception {
+        // the more specific path takes precedence over the v2 listings
+        server.handle("/apis/v1beta1/runs", exchange -> {
+            queries.add(URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8));
+            byte[] body = "{\"runs\": [{\"id\": \"run-1\", \"status\": \"Succeeded\"}]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        KFPv1Client client = new KFPv1Client(url);
+
+        KFPv1Client.PipelineRun run = client.waitForPipelineRuns(List.of("run-1"), Duration.ofMillis(100), Duration.ofSeconds(10))
+                .findFirst().orElseThrow().get(10, TimeUnit.SECONDS);
+
+        assertEquals("Succeeded", run.status);
+        assertThat(queries.get(0), containsString("{\"key\":\"status\",\"op\":\"IN\""));
+        assertThat(queries.get(0), containsString("{\"key\":\"id\",\"op\":\"IN\",\"string_values\":{\"values\":[\"run-1\"]}}"));
+    }
+
+    @Test
+    void testManyRunsAreListedWithFewRequests() throws Exception {
+        KFPv2Client client = new KFPv2Client(HttpClient.newHttpClient(), url, null);
+        List<String> runIds = IntStream.range(0, 500).mapToObj(i -> new UUID(0, i).toString()).toList();
+
+        // the wait times out after the first poll
+        List<CompletableFuture<KFPv2Client.PipelineRun>> completions = client.waitForPipelineRuns(
+                runIds, Duration.ofMillis(100), Duration.ofMillis(100)).toList();
+        ExecutionException timeout = assertThrows(ExecutionException.class, () -> completions.get(0).get(10, TimeUnit.SECONDS));
+        assertThat(timeout.getCause(), instanceOf(TimeoutException.class));
+
+        List<String> firstPages = queries.stream().filter(query -> !query.contains("page_token")).toList();
+        assertEquals(4, firstPages.size());
+        assertThat(rawQueryLengths.stream().mapToInt(Integer::intValue).max().orElseThrow(), lessThan(6 * 1024 + 100));
+        // every id is listed exactly once and in order
+        assertEquals(runIds, firstPages.stream()
+                .map(query -> query.substring(query.lastIndexOf('[') + 1, query.indexOf(']', query.lastIndexOf('['))))
+                .flatMap(values -> Arrays.stream(values.split(",")))
+                .map(value -> value.substring(1, value.length() - 1))
+                .toList());
+    }
+}
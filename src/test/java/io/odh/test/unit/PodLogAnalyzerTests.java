@@ -0,0 +1,118 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.logs.PodLogAnalyzer;
+import io.odh.test.framework.matchers.LogIgnoreList;
+import io.odh.test.framework.matchers.LogScanner;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+@EnableKubernetesMockClient
+public class PodLogAnalyzerTests {
+
+    private static final String TIMESTAMP = "2024-05-06T07:08:09Z";
+
+    private KubernetesClient kubernetesClient;
+
+    private KubernetesMockServer server;
+
+    @Test
+    void testFindingsAreMergedAcrossNamespacesAndContainers() {
+        expectPods("controllers", pod("dashboard", "dashboard", "oauth-proxy"), pod("notebook-controller", "manager"));
+        expectPods("operator", pod("odh-operator", "manager"));
+        expectPods("missing");
+
+        expectLog("controllers", "dashboard", "dashboard", TIMESTAMP + "\tINFO\tstarted\n");
+        expectLog("controllers", "dashboard", "oauth-proxy", TIMESTAMP + "\tERROR\tinvalid token\n");
+        expectLog("controllers", "notebook-controller", "manager", TIMESTAMP + "\tERROR\tignored failure\n");
+        expectLog("operator", "odh-operator", "manager", TIMESTAMP + "\tERROR\treconcile failed\n" + TIMESTAMP + "\tERROR\tagain\n");
+
+        PodLogAnalyzer analyzer = new PodLogAnalyzer(kubernetesClient,
+                new LogScanner(LogIgnoreList.of(List.of("ignored failure"))), 2, 10);
+        PodLogAnalyzer.Report report = analyzer.analyze(List.of("operator", "controllers", "missing"), null);
+
+        assertFalse(report.hasNoErrors());
+        assertEquals(4, report.scannedContainers());
+        assertEquals(List.of(
+                new PodLogAnalyzer.Finding("controllers", "dashboard", "oauth-proxy", List.of("\tERROR\tinvalid token")),
+                new PodLogAnalyzer.Finding("operator", "odh-operator", "manager", List.of("\tERROR\treconcile failed", "\tERROR\tagain"))),
+                report.findings());
+        assertEquals(List.of(), report.unreadable());
+    }
+
+    @Test
+    void testUnreadableLogsAreReported() {
+        expectPods("operator", pod("odh-operator", "manager"));
+
+        PodLogAnalyzer analyzer = new PodLogAnalyzer(kubernetesClient, new LogScanner(LogIgnoreList.defaults()), 2, 10);
+        PodLogAnalyzer.Report report = analyzer.analyze(List.of("operator"), null);
+
+        assertEquals(0, report.scannedContainers());
+        assertEquals(List.of("operator/odh-operator/manager"), report.unreadable());
+    }
+
+    @Test
+    void testOnlySelectedPodsAreAnalyzed() {
+        Pod operator = pod("odh-operator", "manager");
+        operator.getMetadata().setLabels(Map.of("control-plane", "controller-manager"));
+        Pod tekton = pod("tekton-operator", "operator");
+        expectPods("openshift-operators", operator, tekton);
+        server.expect().get().withPath("/api/v1/namespaces/openshift-operators/pods?labelSelector=control-plane%3Dcontroller-manager")
+            .andReturn(200, new PodListBuilder().withNewMetadata().endMetadata().withItems(operator).build())
+            .always();
+
+        expectLog("openshift-operators", "odh-operator", "manager", TIMESTAMP + "\tERROR\treconcile failed\n");
+        expectLog("openshift-operators", "tekton-operator", "operator", TIMESTAMP + "\tERROR\tnot an ODH error\n");
+
+        PodLogAnalyzer analyzer = new PodLogAnalyzer(kubernetesClient, new LogScanner(LogIgnoreList.of(List.of())), 2, 10);
+        PodLogAnalyzer.Report report = analyzer.analyzePods(List.of(new PodLogAnalyzer.PodSelection("openshift-operators",
+                new LabelSelectorBuilder().withMatchLabels(Map.of("control-plane", "controller-manager")).build())), null);
+
+        assertEquals(1, report.scannedContainers());
+        assertEquals(List.of(new PodLogAnalyzer.Finding("openshift-operators", "odh-operator", "manager", List.of("\tERROR\treconcile failed"))),
+                report.findings());
+    }
+
+    private void expectPods(String namespace, Pod... pods) {
+        server.expect().get().withPath("/api/v1/namespaces/" + namespace + "/pods")
+            .andReturn(200, new PodListBuilder().withNewMetadata().endMetadata().withItems(pods).build())
+            .always();
+    }
+
+    private void expectLog(String namespace, String pod, String container, String log) {
+        server.expect().get().withPath("/api/v1/namespaces/" + namespace + "/pods/" + pod + "/log?pretty=false&container=" + container)
+            .andReturn(200, log)
+            .always();
+    }
+
+    private static Pod pod(String name, String... containers) {
+        PodBuilder builder = new PodBuilder().withNewMetadata().withName(name).endMetadata().withNewSpec().endSpec();
+        for (String container : containers) {
+            builder.editSpec().addNewContainer().withName(container).endContainer().endSpec();
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.informers.ReadinessEngine;
+import io.odh.test.framework.informers.SharedInformers;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import io.skodjob.testframe.wait.WaitException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+@EnableKubernetesMockClient(crud = true)
+public class ReadinessEngineTests {
+
+    private static final String NAMESPACE = "readiness";
+
+    private KubernetesClient kubernetesClient;
+
+    private SharedInformers informers;
+    private ReadinessEngine engine;
+
+    @BeforeEach
+    void setupEngine() {
+        informers = new SharedInformers(kubernetesClient);
+        // long recheck interval, so the waits below can only finish on watch events
+        engine = new ReadinessEngine(informers, 60_000);
+    }
+
+    @AfterEach
+    void stopInformers() {
+        informers.stop();
+    }
+
+    @Test
+    void testWaitCompletesOnUpdate() throws Exception {
+        kubernetesClient.configMaps().inNamespace(NAMESPACE).resource(configMap("NotReady")).create();
+
+        CompletableFuture<ConfigMap> ready = CompletableFuture.supplyAsync(() ->
+            engine.waitFor("ConfigMap phase", ConfigMap.class, NAMESPACE, "readiness-state", cm -> cm.getData().get("phase").equals("Ready"), 30_000));
+
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertFalse(ready.isDone());
+
+        kubernetesClient.configMaps().inNamespace(NAMESPACE).resource(configMap("Ready")).update();
+
+        assertEquals("Ready", ready.get(10, TimeUnit.SECONDS).getData().get("phase"));
+    }
+
+    @Test
+    void testWaitCompletesForCreatedResource() throws Exception {
+        CompletableFuture<ConfigMap> ready = CompletableFuture.supplyAsync(() ->
+            engine.waitFor("ConfigMap creation", ConfigMap.class, NAMESPACE, "readiness-state", cm -> cm.getData().get("phase").equals("Ready"), 30_000));
+
+        kubernetesClient.configMaps().inNamespace(NAMESPACE).resource(configMap("Ready")).create();
+
+        assertEquals("Ready", ready.get(10, TimeUnit.SECONDS).getData().get("phase"));
+    }
+
+    @Test
+    void testWaitTimesOut() {
+        kubernetesClient.configMaps().inNamespace(NAMESPACE).resource(configMap("NotReady")).create();
+
+        assertThrows(WaitException.class, () ->
+            engine.waitFor("ConfigMap phase", ConfigMap.class, NAMESPACE, "readiness-state", cm -> cm.getData().get("phase").equals("Ready"), 1_000));
+    }
+
+    private static ConfigMap configMap(String phase) {
+        return new ConfigMapBuilder()
+            .withNewMetadata()
+            .withName("readiness-state")
+            .withNamespace(NAMESPACE)
+            .endMetadata()
+            .addToData("phase", phase)
+            .build();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.informers.CacheMode;
+import io.odh.test.framework.informers.ResourceCache;
+import io.odh.test.framework.informers.SharedInformers;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+@EnableKubernetesMockClient(crud = true)
+public class ResourceCacheTests {
+
+    private static final String NAMESPACE = "cache";
+    private static final String OTHER_NAMESPACE = "cache-other";
+
+    private KubernetesClient kubernetesClient;
+
+    private KubernetesMockServer server;
+
+    private SharedInformers informers;
+
+    @BeforeEach
+    void setupInformers() {
+        informers = new SharedInformers(kubernetesClient);
+        kubernetesClient.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder()
+            .withNewMetadata()
+            .withName("cached")
+            .withNamespace(NAMESPACE)
+            .endMetadata()
+            .build()).create();
+    }
+
+    @AfterEach
+    void stopInformers() {
+        informers.stop();
+    }
+
+    @Test
+    void testCacheOnlyDoesNotHitApiServer() {
+        ResourceCache cache = new ResourceCache(kubernetesClient, informers, CacheMode.CACHE_ONLY);
+        assertNotNull(cache.get(ConfigMap.class, NAMESPACE, "cached"));
+
+        int requests = server.getRequestCount();
+        assertNotNull(cache.get(ConfigMap.class, NAMESPACE, "cached"));
+        assertNull(cache.get(ConfigMap.class, NAMESPACE, "missing"));
+        assertEquals(requests, server.getRequestCount());
+    }
+
+    @Test
+    void testReadThroughVerifiesMiss() {
+        ResourceCache cache = new ResourceCache(kubernetesClient, informers, CacheMode.READ_THROUGH);
+        assertNotNull(cache.get(ConfigMap.class, NAMESPACE, "cached"));
+
+        int requests = server.getRequestCount();
+        assertNotNull(cache.get(ConfigMap.class, NAMESPACE, "cached"));
+        assertEquals(requests, server.getRequestCount());
+
+        assertNull(cache.get(ConfigMap.class, NAMESPACE, "missing"));
+        assertEquals(requests + 1, server.getRequestCount());
+    }
+
+    @Test
+    void testLatestIsReadFromApiServer() {
+        ResourceCache cache = new ResourceCache(kubernetesClient, informers, CacheMode.CACHE_ONLY);
+        assertNotNull(cache.get(ConfigMap.class, NAMESPACE, "cached"));
+
+        int requests = server.getRequestCount();
+        ConfigMap updated = kubernetesClient.configMaps().inNamespace(NAMESPACE).withName("cached")
+            .edit(configMap -> new ConfigMapBuilder(configMap).addToData("key", "value").build());
+        assertEquals(updated.getMetadata().getResourceVersion(),
+            cache.getLatest(ConfigMap.class, NAMESPACE, "cached").getMetadata().getResourceVersion());
+        assertNull(cache.getLatest(ConfigMap.class, NAMESPACE, "missing"));
+        // edit is a GET and a PATCH, followed by two lookups
+        assertEquals(requests + 4, server.getRequestCount());
+    }
+
+    @Test
+    void testNamespacesShareOneInformer() {
+        kubernetesClient.configMaps().inNamespace(OTHER_NAMESPACE).resource(new ConfigMapBuilder()
+            .withNewMetadata()
+            .withName("other")
+            .withNamespace(OTHER_NAMESPACE)
+            .endMetadata()
+            .build()).create();
+        ResourceCache cache = new ResourceCache(kubernetesClient, informers, CacheMode.CACHE_ONLY);
+        assertNotNull(cache.get(ConfigMap.class, NAMESPACE, "cached"));
+
+        int requests = server.getRequestCount();
+        assertNotNull(cache.get(ConfigMap.class, OTHER_NAMESPACE, "other"));
+        assertNull(cache.get(ConfigMap.class, OTHER_NAMESPACE, "cached"));
+        assertEquals(requests, server.getRequestCount());
+    }
+}
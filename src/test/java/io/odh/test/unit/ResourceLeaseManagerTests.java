@@ -0,0 +1,216 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.manager.ResourceLeaseManager;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import io.skodjob.testframe.interfaces.ResourceType;
+import io.skodjob.testframe.wait.WaitException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+@EnableKubernetesMockClient(crud = true)
+public class ResourceLeaseManagerTests {
+
+    private static final String NAMESPACE = "leases";
+
+    private KubernetesClient kubernetesClient;
+
+    private ConfigMapType type;
+
+    private ResourceLeaseManager leases;
+
+    @BeforeEach
+    void setupManager() {
+        type = new ConfigMapType(kubernetesClient);
+        leases = new ResourceLeaseManager(kubernetesClient, 5_000);
+    }
+
+    @Test
+    void testSameSpecIsShared() {
+        ResourceLeaseManager.Lease<ConfigMap> first = leases.acquire(type, configMap("shared", "mode", "a"));
+        ResourceLeaseManager.Lease<ConfigMap> second = leases.acquire(type, configMap("other-name", "mode", "a"));
+
+        assertSame(first.getResource(), second.getResource());
+        assertEquals(1, type.creates.get());
+
+        first.release();
+        first.release();
+        assertNotNull(kubernetesClient.configMaps().inNamespace(NAMESPACE).withName("shared").get());
+
+        second.release();
+        assertNull(kubernetesClient.configMaps().inNamespace(NAMESPACE).withName("shared").get());
+    }
+
+    @Test
+    void testDifferentSpecWaitsForRelease() throws Exception {
+        ResourceLeaseManager.Lease<ConfigMap> first = leases.acquire(type, configMap("exclusive", "mode", "a"));
+
+        CompletableFuture<ResourceLeaseManager.Lease<ConfigMap>> second = CompletableFuture.supplyAsync(
+            () -> leases.acquire(type, configMap("exclusive", "mode", "b")));
+        Thread.sleep(300);
+        assertFalse(second.isDone());
+
+        first.release();
+        ResourceLeaseManager.Lease<ConfigMap> lease = second.get(5, TimeUnit.SECONDS);
+        assertEquals("b", kubernetesClient.configMaps().inNamespace(NAMESPACE).withName("exclusive").get().getData().get("mode"));
+        lease.release();
+    }
+
+    @Test
+    void testWaitForSharedResourceDoesNotBlockOnLock() throws Exception {
+        leases = new ResourceLeaseManager(kubernetesClient, 500);
+        type.readiness = new CompletableFuture<>();
+        CompletableFuture<ResourceLeaseManager.Lease<ConfigMap>> first = CompletableFuture.supplyAsync(
+            () -> leases.acquire(type, configMap("slow", "mode", "a")));
+        Thread.sleep(100);
+
+        // the first holder is still checking readiness, the second one times out instead of waiting for the check
+        long start = System.nanoTime();
+        assertThrows(WaitException.class, () -> leases.acquire(type, configMap("slow", "mode", "a")));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1000L));
+        assertFalse(first.isDone());
+
+        type.readiness.complete(null);
+        first.get(5, TimeUnit.SECONDS).release();
+        assertEquals(1, type.creates.get());
+        assertNull(kubernetesClient.configMaps().inNamespace(NAMESPACE).withName("slow").get());
+    }
+
+    @Test
+    void testExistingResourceIsAdopted() {
+        ConfigMap existing = configMap("existing", "mode", "a");
+        existing.getMetadata().setAnnotations(Map.of(ResourceLeaseManager.SPEC_HASH_ANNOTATION, ResourceLeaseManager.specHash(existing)));
+        kubernetesClient.configMaps().inNamespace(NAMESPACE).resource(existing).create();
+
+        ResourceLeaseManager.Lease<ConfigMap> reused = leases.acquire(type, configMap("desired", "mode", "a"));
+        assertEquals("existing", reused.getResource().getMetadata().getName());
+        assertEquals(0, type.creates.get());
+        assertEquals(0, type.updates.get());
+        reused.release();
+
+        kubernetesClient.configMaps().inNamespace(NAMESPACE).resource(configMap("existing", "mode", "a")).create();
+        ConfigMap desired = configMap("desired", "mode", "b");
+        ResourceLeaseManager.Lease<ConfigMap> updated = leases.acquire(type, desired);
+        assertEquals("existing", updated.getResource().getMetadata().getName());
+        assertEquals("desired", desired.getMetadata().getName());
+        assertNull(desired.getMetadata().getAnnotations().get(ResourceLeaseManager.SPEC_HASH_ANNOTATION));
+        assertEquals(1, type.updates.get());
+        assertEquals("b", kubernetesClient.configMaps().inNamespace(NAMESPACE).withName("existing").get().getData().get("mode"));
+        updated.release();
+    }
+
+    @Test
+    void testSpecHashIgnoresMetadataAndOrdering() {
+        Map<String, String> ordered = new LinkedHashMap<>();
+        ordered.put("a", "1");
+        ordered.put("b", "2");
+        Map<String, String> reversed = new LinkedHashMap<>();
+        reversed.put("b", "2");
+        reversed.put("a", "1");
+
+        ConfigMap first = new ConfigMapBuilder().withNewMetadata().withName("first").endMetadata().withData(ordered).build();
+        ConfigMap second = new ConfigMapBuilder().withNewMetadata().withName("second").withResourceVersion("7").endMetadata()
+            .withData(reversed).build();
+
+        assertEquals(ResourceLeaseManager.specHash(first), ResourceLeaseManager.specHash(second));
+        assertFalse(ResourceLeaseManager.specHash(first).equals(ResourceLeaseManager.specHash(configMap("first", "a", "2"))));
+    }
+
+    private static ConfigMap configMap(String name, String key, String value) {
+        return new ConfigMapBuilder()
+            .withNewMetadata()
+            .withName(name)
+            .withNamespace(NAMESPACE)
+            .endMetadata()
+            .withData(Map.of(key, value))
+            .build();
+    }
+
+    private static final class ConfigMapType implements ResourceType<ConfigMap> {
+        private final KubernetesClient client;
+        private final AtomicInteger creates = new AtomicInteger();
+        private final AtomicInteger updates = new AtomicInteger();
+        // completed once the resources are ready
+        private volatile CompletableFuture<Void> readiness = CompletableFuture.completedFuture(null);
+
+        ConfigMapType(KubernetesClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public NonNamespaceOperation<?, ?, ?> getClient() {
+            return client.configMaps().inNamespace(NAMESPACE);
+        }
+
+        @Override
+        public String getKind() {
+            return "ConfigMap";
+        }
+
+        @Override
+        public void create(ConfigMap resource) {
+            creates.incrementAndGet();
+            client.configMaps().inNamespace(NAMESPACE).resource(resource).create();
+        }
+
+        @Override
+        public void update(ConfigMap resource) {
+            updates.incrementAndGet();
+            client.configMaps().inNamespace(NAMESPACE).resource(resource).update();
+        }
+
+        @Override
+        public void delete(ConfigMap resource) {
+            client.configMaps().inNamespace(NAMESPACE).withName(resource.getMetadata().getName()).delete();
+        }
+
+        @Override
+        public void replace(ConfigMap resource, Consumer<ConfigMap> editor) {
+            ConfigMap toBeUpdated = client.configMaps().inNamespace(NAMESPACE).withName(resource.getMetadata().getName()).get();
+            editor.accept(toBeUpdated);
+            update(toBeUpdated);
+        }
+
+        @Override
+        public boolean isReady(ConfigMap resource) {
+            readiness.join();
+            return client.configMaps().inNamespace(NAMESPACE).withName(resource.getMetadata().getName()).get() != null;
+        }
+
+        @Override
+        public boolean isDeleted(ConfigMap resource) {
+            return client.configMaps().inNamespace(NAMESPACE).withName(resource.getMetadata().getName()).get() == null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import io.odh.test.TestSuite;
+import io.odh.test.framework.ExtensionContextParameterResolver;
+import io.odh.test.framework.manager.SharedInstallManager;
+import io.skodjob.testframe.annotations.TestVisualSeparator;
+import io.skodjob.testframe.resources.KubeResourceManager;
+import io.skodjob.testframe.resources.ResourceItem;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag(TestSuite.UNIT)
+@ExtendWith(ExtensionContextParameterResolver.class)
+@TestVisualSeparator
+public class SharedInstallManagerTests {
+
+    @Test
+    void testInstallIsRemovedByLastHolder(ExtensionContext extensionContext) {
+        SharedInstallManager installs = new SharedInstallManager();
+        List<String> events = new CopyOnWriteArrayList<>();
+        Runnable install = () -> {
+            events.add("install");
+            KubeResourceManager.getInstance().pushToStack(new ResourceItem<>(() -> events.add("uninstall")));
+        };
+        // contexts of two test classes running in parallel
+        ExtensionContext first = extensionContext;
+        ExtensionContext second = extensionContext.getParent().orElseThrow();
+
+        KubeResourceManager.setTestContext(first);
+        installs.acquireForContext();
+        installs.install("operator", install);
+        KubeResourceManager.setTestContext(second);
+        installs.acquireForContext();
+        installs.install("operator", install);
+        assertEquals(List.of("install"), events);
+
+        KubeResourceManager.setTestContext(first);
+        KubeResourceManager.getInstance().deleteResources();
+        assertEquals(List.of("install"), events);
+
+        KubeResourceManager.setTestContext(second);
+        KubeResourceManager.getInstance().deleteResources();
+        assertEquals(List.of("install", "uninstall"), events);
+
+        // a class running afterwards installs the component again
+        installs.acquireForContext();
+        installs.install("operator", install);
+        KubeResourceManager.getInstance().deleteResources();
+        assertEquals(List.of("install", "uninstall", "install", "uninstall"), events);
+    }
+
+    @Test
+    void testInstallWithoutHolderIsRejected(ExtensionContext extensionContext) {
+        KubeResourceManager.setTestContext(extensionContext);
+        assertThrows(IllegalStateException.class, () -> new SharedInstallManager().install("operator", () -> { }));
+    }
+}
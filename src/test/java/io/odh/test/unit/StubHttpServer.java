@@ -0,0 +1,61 @@
+/*
+ * Copyright Skodjob authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.odh.test.unit;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP server stubbing a remote service in unit tests. Requests are handled on a cached thread pool,
+ * so concurrent requests of the tested client are served concurrently.
+ */
+final class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Starts the server on a free loopback port
+     *
+     * @param path path prefix handled by the handler
+     * @param handler handler of the requests
+     */
+    StubHttpServer(String path, HttpHandler handler) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext(path, handler);
+        server.start();
+    }
+
+    /**
+     * Handles another path prefix
+     *
+     * @param path path prefix handled by the handler
+     * @param handler handler of the requests
+     * @return this server
+     */
+    StubHttpServer handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    /**
+     * @return base url of the server, without trailing slash
+     */
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}